@@ -1,22 +1,23 @@
+import domain.ExamInstance;
 import domain.ExamsSchedule;
-import domain.entities.Exam;
 import domain.parsers.ConstraintParser;
 import domain.parsers.ExamParser;
-import geneticAlgorithm.Enconder;
-import geneticAlgorithm.GeneticCore;
+import geneticAlgorithm.GeneticExecution;
 import geneticAlgorithm.Individual;
 import domain.configuration.Configurer;
-import geneticAlgorithm.fitnessFunctions.FitnessFunction;
-import geneticAlgorithm.fitnessFunctions.LinearFitnessFunction;
-import geneticAlgorithm.operators.GeneticOperators;
+import geneticAlgorithm.output.CsvScheduleWriter;
 import geneticAlgorithm.output.ExcelWriter;
+import geneticAlgorithm.output.JsonLinesScheduleWriter;
+import geneticAlgorithm.output.OutputFormat;
 import geneticAlgorithm.output.OutputHandler;
+import geneticAlgorithm.output.ScheduleWriter;
 import greedyAlgorithm.ChromosomeDecoder;
 import logger.ConsoleLogger;
 import logger.ErrorManager;
 import logger.dataGetter.StatisticalDataGetter;
 import logger.dataGetter.fitnessLogger.GeneticLogger;
 import utils.Utils;
+import utils.random.RandomGenerator;
 
 import java.util.Comparator;
 import java.util.HashSet;
@@ -48,9 +49,11 @@ public class App {
         StatisticalDataGetter statisticalDataGetter = null;
 
         Configurer conf = new Configurer(args[0]);
+        if (conf.getGeneticParameters().getRandomSeed() != null) {
+            RandomGenerator.setSeed(conf.getGeneticParameters().getRandomSeed());
+        }
 
         ConstraintParser constraintParser;
-        Enconder basicEncoder = new Enconder();
 
         int repetitions = conf.getGeneticParameters().getAlgorithmRepetitions();
         if (repetitions<1) {
@@ -63,7 +66,8 @@ public class App {
         HashSet<Individual> elite = new HashSet<>();
         Individual bestFitnessIndividual;
         ExamsSchedule examsSchedule = null;
-        GeneticCore genCore = null;
+        String geneticLogging = null;
+        String fitnessGraphData = null;
         OutputHandler outputHandler = null;
         String outputDirectory = Utils.createOutputDirectory(conf.getFilePaths("outputBaseDirectory"));
 
@@ -75,57 +79,40 @@ public class App {
             constraintParser = new ConstraintParser();
         }
 
+        // The input is parsed once, every repetition works on its own copy of it.
+        ErrorManager errorManager = ConsoleLogger.getConsoleLoggerInstance().getErrorManager();
+        ExamInstance instance = new ExamInstance(conf, constraintParser);
+
+        if (errorAsking && errorManager.wasThereNewErrorsOrWarnings()) {
+            System.out.println("There were errors in exam or constraint parsing.");
+            ConsoleLogger.getConsoleLoggerInstance().writeInputLogData(outputDirectory);
+            stoppingInputRequest();
+        }
+
         for (int j = 1; j <= repetitions; j++) {
             if (repetitions > 1) {
                 System.out.println();
                 System.out.println("Repetition: " + j);
             }
             // Iteration start
-            ExamParser examParser = new ExamParser();
-            ErrorManager errorManager = ConsoleLogger.getConsoleLoggerInstance().getErrorManager();
-            List<Exam> exams = examParser.parseExams(conf.getFilePaths("inputFile"), conf);
-
-
-
-            if (errorAsking && errorManager.wasThereNewErrorsOrWarnings() && j==1) {
-                System.out.println("There were errors in exam parsing.");
-                ConsoleLogger.getConsoleLoggerInstance().writeInputLogData(outputDirectory);
-                stoppingInputRequest();
-            }
-
-            examsSchedule = new ExamsSchedule(conf, exams, constraintParser);
-            ExcelWriter excelWriter = new ExcelWriter(examParser, constraintParser);
-            outputHandler = new OutputHandler(examsSchedule, outputFileName, outputDirectory, excelWriter);
-
-
-
-            if (errorAsking && errorManager.wasThereNewErrorsOrWarnings() && j==1) {
-                System.out.println("There were errors in constraint parsing.");
-                ConsoleLogger.getConsoleLoggerInstance().writeInputLogData(outputDirectory);
-                stoppingInputRequest();
-            }
+            examsSchedule = instance.createSchedule();
+            ScheduleWriter scheduleWriter = createScheduleWriter(conf.getOutputFormat(), constraintParser);
+            outputHandler = new OutputHandler(examsSchedule, outputFileName, outputDirectory, scheduleWriter);
 
 
             if (j == 1) {
                 System.out.println(conf.getGeneticParameters().getStatusMessage());
             }
 
-            Individual individualPrime = basicEncoder.encodeListExams(examsSchedule);
-            FitnessFunction fn = new LinearFitnessFunction(examsSchedule);
-
-            GeneticOperators geneticOperators = new GeneticOperators(conf.getGeneticParameters().getPopulationSize());
-            GeneticLogger logger = new GeneticLogger();
-            genCore = new GeneticCore(individualPrime, conf.getGeneticParameters().getPopulationSize(),
-                    geneticOperators, logger, elite);
+            GeneticExecution execution = new GeneticExecution(instance, examsSchedule, conf.getGeneticParameters(),
+                    new GeneticLogger(), elite);
+            bestFitnessIndividual = execution.run();
 
+            List<Individual> finalPopulation = execution.getPopulation();
+            geneticLogging = execution.getLogging();
+            fitnessGraphData = execution.getFitnessGraphData();
 
-            bestFitnessIndividual = genCore.geneticAlgorithm(conf.getGeneticParameters().getMutationProbability(),
-                    conf.getGeneticParameters().getCrossoverProbability(), fn,
-                    conf.getGeneticParameters().getGenerations(), conf.getGeneticParameters().getLoggingFrequency());
-
-
-            List<Individual> finalPopulation = genCore.getPopulation();
-            finalPopulation.sort(Comparator.comparingDouble(i -> i.getFitnessScore(fn)));
+            finalPopulation.sort(Comparator.comparingDouble(i -> i.getFitnessScore(execution.getFitnessFunction())));
             elite.clear();
             elite.add(bestFitnessIndividual);
 
@@ -138,7 +125,24 @@ public class App {
         if (statisticalDataGetter != null) {
             statisticalDataGetter.writeLogFor(elite, new ChromosomeDecoder(conf), examsSchedule, outputFileName);
         }
-        outputHandler.writeOutputFiles(elite, genCore.getLogging(), genCore.getFitnessGraphData());
+        outputHandler.writeOutputFiles(elite, geneticLogging, fitnessGraphData);
+    }
+
+    /**
+     * Creates the writer of the final schedules for the configured output format.
+     * @param outputFormat The format in which the final schedules must be written.
+     * @param constraintParser The parser of the user constraints, needed to write them to Excel.
+     * @return The {@code ScheduleWriter} for {@code outputFormat}.
+     */
+    private static ScheduleWriter createScheduleWriter(OutputFormat outputFormat, ConstraintParser constraintParser) {
+        switch (outputFormat) {
+            case CSV:
+                return new CsvScheduleWriter();
+            case JSONL:
+                return new JsonLinesScheduleWriter();
+            default:
+                return new ExcelWriter(new ExamParser(), constraintParser);
+        }
     }
 
     private static void stoppingInputRequest() {
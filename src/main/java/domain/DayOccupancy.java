@@ -0,0 +1,133 @@
+package domain;
+
+import domain.entities.Exam;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * This holds, for each day of the calendar, the scheduled exams that can collide with others, sorted by initial
+ * hour, so that {@link ExamsSchedule#checkCollisionOf(int, int, int)} only looks at the exams of the day that start
+ * before the end of the new exam, instead of at all the exams of the instance. Days are identified by their index in
+ * the calendar, and hours by their second of the day.
+ *
+ * <p>
+ * Each exam is stored together with its position in the exam list of the schedule. When several exams collide, the
+ * one with the lowest position is returned, as the former linear scan did.
+ */
+public class DayOccupancy {
+
+    /**
+     * A scheduled exam with the data needed to look it up.
+     */
+    private static final class Slot {
+        private final Exam exam;
+        private final int position;
+        private final int start;
+
+        private Slot(Exam exam, int position) {
+            this.exam = exam;
+            this.position = position;
+            this.start = exam.getStartSecondOfDay();
+        }
+    }
+
+    /**
+     * Scheduled exams of each day, sorted by initial hour and then by position.
+     */
+    private final List<List<Slot>> slotsPerDay;
+
+    /**
+     * Constructor for the class.
+     * @param days Number of days of the calendar.
+     */
+    public DayOccupancy(int days) {
+        this.slotsPerDay = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            slotsPerDay.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Removes all the exams.
+     */
+    public void clear() {
+        for (List<Slot> slots: slotsPerDay) {
+            slots.clear();
+        }
+    }
+
+    /**
+     * Adds a scheduled exam to the day it takes place on.
+     * @param exam The exam, whose date and initial hour must be already set.
+     * @param position The position of {@code exam} in the exam list of the schedule.
+     * @param day The index of the day on which it takes place.
+     */
+    public void add(Exam exam, int position, int day) {
+        List<Slot> slots = slotsPerDay.get(day);
+        Slot slot = new Slot(exam, position);
+
+        int low = 0;
+        int high = slots.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Slot other = slots.get(middle);
+            if (other.start < slot.start || other.start == slot.start && other.position < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        slots.add(low, slot);
+    }
+
+    /**
+     * Removes an exam from a day.
+     * @param exam The exam to be removed.
+     * @param day The index of the day on which {@code exam} was scheduled.
+     */
+    public void remove(Exam exam, int day) {
+        List<Slot> slots = slotsPerDay.get(day);
+        Iterator<Slot> iterator = slots.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().exam == exam) {
+                iterator.remove();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Looks for an exam colliding with a new one.
+     *
+     * <p>
+     * An exam can only collide if it starts before the end of the new one, so the search stops at the first exam
+     * starting later. The collision itself is checked with {@link Exam#willCollideWith(LocalDate, int, int)}.
+     * @param day The index of the day of the new exam.
+     * @param currentDate The date of the new exam.
+     * @param currentSecond The initial second of the day of the new exam.
+     * @param chunkSeconds Seconds needed for the new exam.
+     * @return The colliding exam with the lowest position. Null if there is no collision.
+     */
+    public Exam firstCollisionOf(int day, LocalDate currentDate, int currentSecond, int chunkSeconds) {
+        List<Slot> slots = slotsPerDay.get(day);
+
+        int endingSecond = Math.floorMod(currentSecond + chunkSeconds, Exam.SECONDS_PER_DAY);
+        // If the exam goes beyond midnight the hours are not ordered, so every exam of the day must be checked.
+        boolean sortedBounds = endingSecond > currentSecond;
+
+        Slot collision = null;
+        for (Slot slot: slots) {
+            if (sortedBounds && slot.start >= endingSecond) {
+                break;
+            }
+            if ((collision == null || slot.position < collision.position) &&
+                    slot.exam.willCollideWith(currentDate, currentSecond, chunkSeconds)) {
+                collision = slot;
+            }
+        }
+        return collision == null ? null : collision.exam;
+    }
+}
@@ -0,0 +1,131 @@
+package domain;
+
+import domain.configuration.Configurer;
+import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.entities.Exam;
+import domain.parsers.ConstraintParser;
+import domain.parsers.ExamParser;
+import domain.parsers.RoundsParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This is a parsed instance of the problem: the exams, with their rounds and pre-scheduled assignments, and the user
+ * constraints of the input file, along with the configurer that holds the calendar.
+ *
+ * <p>
+ * The input is parsed once, when the instance is built. Then any number of repetitions or threads can get their own
+ * {@link ExamsSchedule} from {@link #createSchedule()}, which copies the exams and constraints instead of parsing the
+ * input again. The instance itself is never modified after it is built, so it can be shared between threads.
+ */
+public class ExamInstance {
+
+    /**
+     * Configurer that contains all the configurations options.
+     */
+    private final Configurer configurer;
+
+    /**
+     * Parsed exams. They are never scheduled, only copied.
+     */
+    private final List<Exam> exams;
+
+    /**
+     * Position of each exam in {@code exams}.
+     */
+    private final IdentityHashMap<Exam, Integer> examPositions;
+
+    /**
+     * Rounds of the exams, with the round identifiers as keys and the ids of the exams of each round as values.
+     */
+    private final Map<String, List<Integer>> rounds;
+
+    /**
+     * Parsed user constraints, over {@code exams}.
+     */
+    private final List<UserConstraint> userConstraints;
+
+    /**
+     * Constructor for the class. It parses the exams and user constraints of the current input file of the configurer.
+     * @param configurer Configurer that contains all the configurations options.
+     * @param constraintParser The parser of the user constraints.
+     */
+    public ExamInstance(Configurer configurer, ConstraintParser constraintParser) {
+        this.configurer = configurer;
+
+        ExamParser examParser = new ExamParser();
+        this.exams = Collections.unmodifiableList(examParser.parseExams(configurer.getInputWorkbook(), configurer));
+        this.rounds = Collections.unmodifiableMap(new HashMap<>(examParser.getRounds()));
+
+        this.examPositions = new IdentityHashMap<>();
+        for (int i = 0; i < exams.size(); i++) {
+            examPositions.put(exams.get(i), i);
+        }
+
+        List<UserConstraint> parsedConstraints = new ArrayList<>();
+        for (SoftConstraint constraint: new ExamsSchedule(configurer, exams, constraintParser).getConstraints()) {
+            if (constraint instanceof UserConstraint) {
+                parsedConstraints.add((UserConstraint) constraint);
+            }
+        }
+        this.userConstraints = Collections.unmodifiableList(parsedConstraints);
+    }
+
+    /**
+     * Creates a new schedule for the instance, with its own copies of the exams and constraints, so that it can be
+     * scheduled independently of any other schedule of the instance.
+     * @return A new {@code ExamsSchedule}, in the same state as if the input file was parsed again.
+     */
+    public ExamsSchedule createSchedule() {
+        return new ExamsSchedule(this);
+    }
+
+    /**
+     * Returns the configurer of the instance.
+     * @return The configurer that contains all the configurations options.
+     */
+    public Configurer getConfigurer() {
+        return configurer;
+    }
+
+    /**
+     * Returns the parsed user constraints.
+     * @return An unmodifiable list with the user constraints, over the exams of the instance. Hardified ones included.
+     */
+    List<UserConstraint> getUserConstraints() {
+        return userConstraints;
+    }
+
+    /**
+     * Returns the position of an exam of the instance.
+     * @param exam An exam of the instance.
+     * @return The position of {@code exam} among the exams of the instance.
+     * @throws IllegalArgumentException if {@code exam} is not an exam of the instance.
+     */
+    int getPositionOf(Exam exam) {
+        Integer position = examPositions.get(exam);
+        if (position == null) {
+            throw new IllegalArgumentException("Exam " + exam.getId() + " is not an exam of the instance");
+        }
+        return position;
+    }
+
+    /**
+     * Creates copies of the exams of the instance, with their rounds, but without any other hard constraint.
+     * @return A new list with a copy of each exam, in the same order.
+     */
+    List<Exam> copyExams() {
+        List<Exam> copies = new ArrayList<>(exams.size());
+        for (Exam exam: exams) {
+            copies.add(exam.clone());
+        }
+        new RoundsParser().setUpRounds(rounds, copies);
+        return copies;
+    }
+}
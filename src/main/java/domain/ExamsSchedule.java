@@ -1,16 +1,20 @@
 package domain;
 
 import domain.constraints.counter.ConstraintCounter;
+import domain.constraints.types.hardConstraints.fullyHardConstraints.CourseDayAvailabilities;
 import domain.constraints.types.hardConstraints.fullyHardConstraints.IsolateCourseOnDayConstraint;
 import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.constraints.types.softConstraints.fullySoftConstraints.GlobalSoftConstraints;
 import domain.constraints.types.softConstraints.fullySoftConstraints.NumericalComplexityPenalization;
 import domain.constraints.types.softConstraints.fullySoftConstraints.RestingIntervalPenalization;
 import domain.constraints.types.softConstraints.fullySoftConstraints.SameCourseDifferentDayConstraint;
 import domain.constraints.types.softConstraints.fullySoftConstraints.UnscheduledExamsConstraint;
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.entities.Exam;
 import domain.entities.Interval;
 import domain.parsers.ConstraintParser;
 import domain.configuration.Configurer;
+import domain.configuration.DateTimeConfigurer;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -44,29 +48,168 @@ public class ExamsSchedule {
      */
     private final Set<Integer> preScheduledExams;
 
+    /**
+     * Whether each exam of {@code exams}, by position, was scheduled from the beginning.
+     */
+    private boolean[] preScheduledPositions;
+
+    /**
+     * The exams that were initially scheduled, in the order of {@code exams}.
+     */
+    private List<Exam> preScheduledExamList;
+
     /**
      * List of {@code SoftConstraints} to be considered.
      */
     private final List<SoftConstraint> constraints;
 
+    /**
+     * Index of the user constraints of each exam, used to count the constraints incrementally. It is built on the
+     * first count, and discarded when a constraint is added.
+     */
+    private UserConstraintIndex userConstraintIndex;
+
+    /**
+     * Evaluator of the default soft constraints that depend on the whole schedule.
+     */
+    private GlobalSoftConstraints globalSoftConstraints;
+
+    /**
+     * Courses of the exams currently scheduled on each day, used by the {@code IsolateCourseOnDayConstraint} of this
+     * schedule.
+     */
+    private final CourseDayAvailabilities courseDayAvailabilities;
+
+    /**
+     * Scheduled exams of each day that can collide with others, used to check the collisions.
+     */
+    private final DayOccupancy dayOccupancy;
+
+    /**
+     * Position of each exam in {@code exams}.
+     */
+    private final IdentityHashMap<Exam, Integer> examPositions;
+
+    /**
+     * The exams that were not initially scheduled, in the order of {@code exams}.
+     */
+    private final List<Exam> preUnscheduledExams;
+
+    /**
+     * Scheduled exams of each day that were not initially scheduled, used to look for swap candidates.
+     */
+    private final SwapCandidatesIndex swapCandidatesIndex;
+
+    /**
+     * Smallest exam id, used as offset of {@code positionsById}.
+     */
+    private int minExamId;
 
     /**
-     * Constructor for the class.
+     * Position in {@code exams} of the first exam with each id, indexed by {@code id - minExamId}. It is -1 for the ids
+     * that no exam has.
+     */
+    private int[] positionsById;
+
+    /**
+     * Constructor for the class. It parses the user constraints from the input file.
      * @param configurer Configurer that contains all the configurations options.
+     * @param exams The exams of the schedule.
+     * @param constraintParser The parser of the user constraints.
+     * @see ExamInstance
      */
     public ExamsSchedule(Configurer configurer, List<Exam> exams, ConstraintParser constraintParser) {
+        this(configurer, exams);
+        this.constraints.addAll(constraintParser.parseConstraints(configurer.getInputWorkbook(), this));
+        prepareViableDays();
+    }
+
+    /**
+     * Constructor for a new schedule of an {@link ExamInstance}, with its own copies of the exams and user constraints
+     * of the instance.
+     * @param instance The instance of the problem.
+     */
+    ExamsSchedule(ExamInstance instance) {
+        this(instance.getConfigurer(), instance.copyExams());
+        for (UserConstraint prototype: instance.getUserConstraints()) {
+            UserConstraint constraint = prototype.copyFor((exam) -> exams.get(instance.getPositionOf(exam)));
+            if (prototype.wasHardified()) {
+                constraint.hardify();
+            }
+            this.constraints.add(constraint);
+        }
+        prepareViableDays();
+    }
+
+    /**
+     * Constructor with the parts common to the rest of constructors. It adds the default constraints, but not the
+     * user ones.
+     * @param configurer Configurer that contains all the configurations options.
+     * @param exams The exams of the schedule.
+     */
+    private ExamsSchedule(Configurer configurer, List<Exam> exams) {
 
         this.configurer = configurer;
         this.preScheduledExams = new HashSet<>();
         this.constraints = new ArrayList<>();
+        this.dayOccupancy = new DayOccupancy(configurer.getDateTimeConfigurer().getCalendarDays().size());
+        this.examPositions = new IdentityHashMap<>();
 
-        String inputDataFile = configurer.getFilePaths("inputFile");
         this.exams = new ArrayList<>(exams);
+        for (int i = 0; i < this.exams.size(); i++) {
+            examPositions.put(this.exams.get(i), i);
+        }
+        indexExamIds();
+        this.courseDayAvailabilities = new CourseDayAvailabilities(this.exams, configurer.getDateTimeConfigurer());
         identifyScheduledExams();
+        this.preUnscheduledExams = Collections.unmodifiableList(exams.stream()
+                .filter((ex) -> !preScheduledExams.contains(ex.getId())).collect(Collectors.toList()));
+        this.swapCandidatesIndex = new SwapCandidatesIndex(configurer.getDateTimeConfigurer().getCalendarDays().size());
+        resetDayOccupancy();
 
         addConstraints();
-        this.constraints.addAll(constraintParser.parseConstraints(inputDataFile, this));
+    }
+
+    /**
+     * Computes the days allowed by the static hard constraints of each exam. It must be called once all the
+     * constraints were added.
+     */
+    private void prepareViableDays() {
+        List<LocalDate> calendar = configurer.getDateTimeConfigurer().getCalendarDays();
+        for (Exam exam: this.exams) {
+            exam.prepareViableDays(calendar);
+        }
+    }
 
+    /**
+     * Fills {@code positionsById}, so the exams can be looked up by id without scanning {@code exams}.
+     */
+    private void indexExamIds() {
+        int maxExamId = 0;
+        minExamId = 0;
+        for (Exam exam: exams) {
+            maxExamId = Math.max(maxExamId, exam.getId());
+            minExamId = Math.min(minExamId, exam.getId());
+        }
+
+        positionsById = new int[maxExamId - minExamId + 1];
+        Arrays.fill(positionsById, -1);
+        for (int i = exams.size() - 1; i >= 0; i--) {
+            positionsById[exams.get(i).getId() - minExamId] = i;
+        }
+    }
+
+    /**
+     * Returns the position of the first exam with an id.
+     * @param examId The id of the exam.
+     * @return The position in {@code exams} of the first exam whose id is {@code examId}, -1 if there is none.
+     */
+    private int positionOf(int examId) {
+        int index = examId - minExamId;
+        if (index < 0 || index >= positionsById.length) {
+            return -1;
+        }
+        return positionsById[index];
     }
 
     /**
@@ -76,14 +219,22 @@ public class ExamsSchedule {
 
         //Hard
         for (Exam exam: exams) {
-            exam.addHardConstraint(new IsolateCourseOnDayConstraint(exam));
+            exam.addHardConstraint(new IsolateCourseOnDayConstraint(exam, courseDayAvailabilities));
         }
 
         //Weak
-        addConstraint(new UnscheduledExamsConstraint(exams));
-        addConstraint(new SameCourseDifferentDayConstraint(exams));
-        addConstraint(new RestingIntervalPenalization(exams, configurer));
-        addConstraint(new NumericalComplexityPenalization(exams));
+        UnscheduledExamsConstraint unscheduledExamsConstraint = new UnscheduledExamsConstraint(exams);
+        SameCourseDifferentDayConstraint sameCourseDifferentDayConstraint = new SameCourseDifferentDayConstraint(exams);
+        RestingIntervalPenalization restingIntervalPenalization = new RestingIntervalPenalization(exams, configurer);
+        NumericalComplexityPenalization numericalComplexityPenalization = new NumericalComplexityPenalization(exams);
+        addConstraint(unscheduledExamsConstraint);
+        addConstraint(sameCourseDifferentDayConstraint);
+        addConstraint(restingIntervalPenalization);
+        addConstraint(numericalComplexityPenalization);
+
+        globalSoftConstraints = new GlobalSoftConstraints(exams, configurer.getDateTimeConfigurer(),
+                unscheduledExamsConstraint, sameCourseDifferentDayConstraint, restingIntervalPenalization,
+                numericalComplexityPenalization);
     }
 
     /**
@@ -95,6 +246,15 @@ public class ExamsSchedule {
                 preScheduledExams.add(exam.getId());
             }
         }
+
+        preScheduledPositions = new boolean[exams.size()];
+        preScheduledExamList = new ArrayList<>();
+        for (int i = 0; i < exams.size(); i++) {
+            preScheduledPositions[i] = preScheduledExams.contains(exams.get(i).getId());
+            if (preScheduledPositions[i]) {
+                preScheduledExamList.add(exams.get(i));
+            }
+        }
     }
 
     /**
@@ -108,8 +268,33 @@ public class ExamsSchedule {
             }
         }
 
-        IsolateCourseOnDayConstraint.resetAvailabilities(configurer.getDateTimeConfigurer().getExamDates(),
-                getPreScheduledExams());
+        courseDayAvailabilities.reset(preScheduledExamList);
+        resetDayOccupancy();
+        swapCandidatesIndex.clear();
+    }
+
+    /**
+     * Sets {@code dayOccupancy} to contain only the initially scheduled exams.
+     */
+    private void resetDayOccupancy() {
+        dayOccupancy.clear();
+        for (Exam exam: preScheduledExamList) {
+            int day = configurer.getDateTimeConfigurer().getDayIndex(exam.getDate());
+            if (day >= 0) {
+                addToDayOccupancy(exam, day);
+            }
+        }
+    }
+
+    /**
+     * Adds a scheduled exam to {@code dayOccupancy}, if it can collide with others.
+     * @param exam The scheduled exam.
+     * @param day The index of the day on which it takes place.
+     */
+    private void addToDayOccupancy(Exam exam, int day) {
+        if (configurer.getDateTimeConfigurer().areCollisionsEnabledFor(exam)) {
+            dayOccupancy.add(exam, examPositions.get(exam), day);
+        }
     }
 
     /**
@@ -117,13 +302,7 @@ public class ExamsSchedule {
      * @return A list of the {@code Exam} instances that were initially scheduled.
      */
     public List<Exam> getPreScheduledExams() {
-        List<Exam> result = new ArrayList<>();
-        for (Exam exam: exams) {
-            if (preScheduledExams.contains(exam.getId())){
-                result.add(exam);
-            }
-        }
-        return result;
+        return new ArrayList<>(preScheduledExamList);
     }
 
     /**
@@ -132,19 +311,31 @@ public class ExamsSchedule {
      * @return true in case it was scheduled from the beginning, false otherwise.
      */
     private boolean wasScheduled(Exam exam) {
-        return preScheduledExams.contains(exam.getId());
+        Integer position = examPositions.get(exam);
+        if (position == null) {
+            return preScheduledExams.contains(exam.getId());
+        }
+        return preScheduledPositions[position];
     }
 
     /**
      * Returns the list of exams that are being handled by the algorithm, being those the one that were not scheduled
      * from the very beginning.
-     * @return A list of {@code exams} which were not initially scheduled.
+     * @return An unmodifiable list of {@code exams} which were not initially scheduled.
      */
     public List<Exam> getPreUnscheduledExams(){
-        return exams.stream().filter( (ex) -> !preScheduledExams.contains(ex.getId())).collect(Collectors.toList());
+        return preUnscheduledExams;
     }
 
 
+    /**
+     * Returns the exams of the schedule, in their current state.
+     * @return An unmodifiable view of the list of exams.
+     */
+    public List<Exam> getExams() {
+        return Collections.unmodifiableList(exams);
+    }
+
     /**
      * Provides a cloned instance of the schedule.
      * @return A copy of {@code Exams} with all the instances within it also cloned.
@@ -168,22 +359,34 @@ public class ExamsSchedule {
 
     /**
      * Checks if a new schedule is possible or it collides with something already scheduled.
+     *
+     * <p>
+     * Only the exams scheduled on {@code currentDate} are looked at, through {@link DayOccupancy}. If several of them
+     * collide, the first one in {@code exams} is returned.
      * @param currentDate The new date of the task.
      * @param currentHour The initial hour of the task.
      * @param chunkOfTime Time needed for the exam.
      * @return The instance that collides with the provided options. Null if there is no collision.
      */
     public Exam checkCollisionOf(LocalDate currentDate, LocalTime currentHour, Duration chunkOfTime) {
-        for (Exam exam: exams) {
-            if (exam.isScheduled()){
-                if (configurer.getDateTimeConfigurer().areCollisionsEnabledFor(exam)) {
-                    if (exam.willCollideWith(currentDate, currentHour, chunkOfTime)) {
-                        return exam;
-                    }
-                }
-            }
+        int day = configurer.getDateTimeConfigurer().getDayIndex(currentDate);
+        if (day < 0) {
+            return null;
         }
-        return null;
+        return checkCollisionOf(day, currentHour.toSecondOfDay(), (int) chunkOfTime.getSeconds());
+    }
+
+    /**
+     * Checks if a new schedule is possible or it collides with something already scheduled.
+     * @param day The index in the calendar of the new date of the task.
+     * @param currentSecond The initial second of the day of the task.
+     * @param chunkSeconds Seconds needed for the exam.
+     * @return The instance that collides with the provided options. Null if there is no collision.
+     * @see #checkCollisionOf(LocalDate, LocalTime, Duration)
+     */
+    public Exam checkCollisionOf(int day, int currentSecond, int chunkSeconds) {
+        LocalDate currentDate = configurer.getDateTimeConfigurer().getCalendarDays().get(day);
+        return dayOccupancy.firstCollisionOf(day, currentDate, currentSecond, chunkSeconds);
     }
 
     /**
@@ -193,8 +396,25 @@ public class ExamsSchedule {
      * @param currentHour The hour at which the exam will take place.
      */
     public void schedule(Exam exam, LocalDate currentDate, LocalTime currentHour) {
-        exam.scheduleFor(currentDate, currentHour);
-        IsolateCourseOnDayConstraint.addCourseToDate(currentDate, exam);
+        schedule(exam, currentDate, currentHour.toSecondOfDay());
+    }
+
+    /**
+     * Schedules an exam, at the specified date and second of the day.
+     * @param exam The exam to be scheduled.
+     * @param currentDate The date in which the exam will take place.
+     * @param currentSecond The second of the day at which the exam will take place.
+     */
+    public void schedule(Exam exam, LocalDate currentDate, int currentSecond) {
+        exam.scheduleFor(currentDate, currentSecond);
+        courseDayAvailabilities.addCourseToDate(currentDate, exam);
+        int day = configurer.getDateTimeConfigurer().getDayIndex(currentDate);
+        if (day >= 0) {
+            addToDayOccupancy(exam, day);
+            if (! wasScheduled(exam)) {
+                swapCandidatesIndex.add(exam, examPositions.get(exam), day);
+            }
+        }
     }
 
     /**
@@ -204,7 +424,14 @@ public class ExamsSchedule {
      */
     public void unSchedule(Exam exam, LocalDate currentDate) {
         exam.scheduleFor(null, null);
-        IsolateCourseOnDayConstraint.removeCourseFromDate(currentDate, exam);
+        courseDayAvailabilities.removeCourseFromDate(currentDate, exam);
+        int day = configurer.getDateTimeConfigurer().getDayIndex(currentDate);
+        if (day >= 0) {
+            dayOccupancy.remove(exam, day);
+            if (! wasScheduled(exam)) {
+                swapCandidatesIndex.remove(exam, day);
+            }
+        }
     }
 
     /**
@@ -216,12 +443,17 @@ public class ExamsSchedule {
     }
 
     /**
-     * Returns an exam by index.
-     * @param examId The index of the exam to be returned.
-     * @return The {@code Exam} object at the given index in {@code exams}.
+     * Returns an exam by id.
+     * @param examId The id of the exam to be returned.
+     * @return The first {@code Exam} object in {@code exams} with the given id.
+     * @throws NoSuchElementException If there is no exam with the given id.
      */
     public Exam getExamById(Integer examId) {
-        return exams.stream().filter((ex) -> ex.getId() == examId).findFirst().get();
+        int position = positionOf(examId);
+        if (position < 0) {
+            throw new NoSuchElementException("There is no exam with id " + examId);
+        }
+        return exams.get(position);
     }
 
     /**
@@ -230,6 +462,24 @@ public class ExamsSchedule {
      */
     public void addConstraint(SoftConstraint constraint) {
         constraints.add(constraint);
+        userConstraintIndex = null;
+    }
+
+    /**
+     * Counts the unfulfilled constraints over the current schedule.
+     *
+     * <p>
+     * Unlike {@link #verifyConstraints(ConstraintCounter)}, the user constraints are only evaluated again if the
+     * schedule of any of their exams changed since the last count, and the default soft constraints are evaluated
+     * together in a single pass.
+     * @param counter The constraint counter instance that will be used for the checking of the weak constraints.
+     * @see UserConstraintIndex
+     */
+    public void countConstraints(ConstraintCounter counter) {
+        if (userConstraintIndex == null) {
+            userConstraintIndex = new UserConstraintIndex(exams, constraints, globalSoftConstraints);
+        }
+        userConstraintIndex.countConstraints(counter);
     }
 
     /**
@@ -270,19 +520,13 @@ public class ExamsSchedule {
     /**
      * Returns a list of exams, taken place on {@code days} that are viable for a swap with {@code notScheduledExam}.
      * @param notScheduledExam The exam that is wanted to be placed.
-     * @param days The days in which {@code notScheduledExam} can take place and therefore the days where we need to look
-     *             for interchangeable exams.
+     * @param days The mask of calendar days in which {@code notScheduledExam} can take place and therefore the days
+     *             where we need to look for interchangeable exams.
      * @return A {@code List} of {@code Exam} that are viable to be interchanged with {@code notScheduledExam}.
+     * @see DateTimeConfigurer#getCalendarDays()
      */
-    public List<Exam> getSwappableExamsOfOver(Exam notScheduledExam, Set<LocalDate> days) {
-        List<Exam> candidates = new ArrayList<>();
-        for (Exam exam: getPreUnscheduledExams()) {
-            if (days.contains(exam.getDate()) &&
-                exam.getChunkOfTime().toMinutes() >= notScheduledExam.getChunkOfTime().toMinutes()) {
-                candidates.add(exam);
-            }
-        }
-        return candidates;
+    public List<Exam> getSwappableExamsOfOver(Exam notScheduledExam, BitSet days) {
+        return swapCandidatesIndex.getExamsOverOn(days, notScheduledExam.getChunkSeconds() / 60);
     }
 
     /**
@@ -291,7 +535,7 @@ public class ExamsSchedule {
      * @return The index of the provided exam in {@code exams}.
      */
     public int getIndexOfExam(Exam exam) {
-        return exams.indexOf(exam);
+        return positionOf(exam.getId());
     }
 
 }
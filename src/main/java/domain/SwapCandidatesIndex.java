@@ -0,0 +1,130 @@
+package domain;
+
+import domain.entities.Exam;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * This holds, for each day of the calendar, the scheduled exams that were not initially scheduled, sorted by the time
+ * they need, so that {@link ExamsSchedule#getSwappableExamsOfOver(Exam, BitSet)} gets the exams long enough of each
+ * viable day with a binary search, instead of scanning all the exams.
+ *
+ * <p>
+ * Each exam is stored together with its position in the exam list of the schedule, and the candidates are returned
+ * in that order, as the former linear scan did.
+ */
+public class SwapCandidatesIndex {
+
+    /**
+     * A scheduled exam with the data needed to look it up.
+     */
+    private static final class Entry {
+        private final Exam exam;
+        private final int position;
+        private final long minutes;
+
+        private Entry(Exam exam, int position) {
+            this.exam = exam;
+            this.position = position;
+            this.minutes = exam.getChunkSeconds() / 60;
+        }
+    }
+
+    /**
+     * Scheduled exams of each day, indexed by day index and sorted by needed minutes and then by position.
+     */
+    private final List<List<Entry>> entriesPerDay;
+
+    /**
+     * Constructor for the class.
+     * @param days Number of days of the calendar.
+     */
+    public SwapCandidatesIndex(int days) {
+        this.entriesPerDay = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            entriesPerDay.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Removes all the exams.
+     */
+    public void clear() {
+        for (List<Entry> entries: entriesPerDay) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Adds a scheduled exam to a day.
+     * @param exam The exam.
+     * @param position The position of {@code exam} in the exam list of the schedule.
+     * @param day The index of the day on which it was scheduled.
+     */
+    public void add(Exam exam, int position, int day) {
+        List<Entry> entries = entriesPerDay.get(day);
+        Entry entry = new Entry(exam, position);
+        int index = firstIndexOf(entries, entry.minutes, position);
+        entries.add(index, entry);
+    }
+
+    /**
+     * Removes an exam from a day.
+     * @param exam The exam to be removed.
+     * @param day The index of the day on which it was scheduled.
+     */
+    public void remove(Exam exam, int day) {
+        List<Entry> entries = entriesPerDay.get(day);
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).exam == exam) {
+                entries.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the exams scheduled on some days that need at least some minutes.
+     * @param days The mask of the days to look at.
+     * @param minutes The minimum time needed by the returned exams.
+     * @return The list of matching exams, in the order of the exam list of the schedule.
+     */
+    public List<Exam> getExamsOverOn(BitSet days, long minutes) {
+        List<Entry> matches = new ArrayList<>();
+        for (int day = days.nextSetBit(0); day >= 0 && day < entriesPerDay.size(); day = days.nextSetBit(day + 1)) {
+            List<Entry> entries = entriesPerDay.get(day);
+            matches.addAll(entries.subList(firstIndexOf(entries, minutes, Integer.MIN_VALUE), entries.size()));
+        }
+        matches.sort((a, b) -> Integer.compare(a.position, b.position));
+
+        List<Exam> exams = new ArrayList<>(matches.size());
+        for (Entry entry: matches) {
+            exams.add(entry.exam);
+        }
+        return exams;
+    }
+
+    /**
+     * Binary search of the first entry that is not lower than the provided keys.
+     * @param entries The sorted entries of a day.
+     * @param minutes The needed minutes.
+     * @param position The position, used to break ties.
+     * @return The index of the first entry with more minutes, or with the same minutes and a position not lower.
+     */
+    private int firstIndexOf(List<Entry> entries, long minutes, int position) {
+        int low = 0;
+        int high = entries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            Entry entry = entries.get(middle);
+            if (entry.minutes < minutes || entry.minutes == minutes && entry.position < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
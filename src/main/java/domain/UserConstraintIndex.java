@@ -0,0 +1,192 @@
+package domain;
+
+import domain.constraints.counter.ConstraintCounter;
+import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.constraints.types.softConstraints.fullySoftConstraints.GlobalSoftConstraints;
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.entities.Exam;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This holds, for each exam of the schedule, the user constraints that reference it, so that
+ * {@link ExamsSchedule#countConstraints(ConstraintCounter)} only re-evaluates the user constraints of the exams whose
+ * date or hour changed since the last evaluation. The result of the rest of them is reused.
+ *
+ * <p>
+ * The rest of soft constraints depend on the whole schedule, so they are evaluated every time. The default ones are
+ * evaluated together by a {@link GlobalSoftConstraints}.
+ *
+ * <p>
+ * The constraints must not be hardified once the first evaluation was done.
+ */
+public class UserConstraintIndex {
+
+    /**
+     * The exams of the schedule.
+     */
+    private final List<Exam> exams;
+
+    /**
+     * Evaluator of the default soft constraints that depend on the whole schedule.
+     */
+    private final GlobalSoftConstraints globalSoftConstraints;
+
+    /**
+     * Soft constraints that are neither user constraints nor evaluated by {@code globalSoftConstraints}.
+     */
+    private final List<SoftConstraint> globalConstraints;
+
+    /**
+     * User constraints of the schedule.
+     */
+    private final List<UserConstraint> userConstraints;
+
+    /**
+     * Indexes in {@code userConstraints} of the constraints that reference each exam, indexed by exam position.
+     */
+    private final int[][] constraintsOfExam;
+
+    /**
+     * Indexes in {@code userConstraints} of the constraints that reference exams not in the schedule. They are
+     * evaluated every time.
+     */
+    private final int[] alwaysEvaluated;
+
+    /**
+     * Date of each exam at the last evaluation.
+     */
+    private final LocalDate[] lastDates;
+
+    /**
+     * Initial second of the day of each exam at the last evaluation.
+     */
+    private final int[] lastSeconds;
+
+    /**
+     * Whether each user constraint was unfulfilled at the last evaluation.
+     */
+    private final boolean[] unfulfilled;
+
+    /**
+     * Whether each user constraint must be evaluated again.
+     */
+    private final boolean[] dirty;
+
+    /**
+     * Whether there was a previous evaluation.
+     */
+    private boolean evaluated;
+
+    /**
+     * Constructor for the class.
+     * @param exams The exams of the schedule.
+     * @param constraints The soft constraints of the schedule.
+     * @param globalSoftConstraints The evaluator of the default soft constraints of the schedule.
+     */
+    public UserConstraintIndex(List<Exam> exams, List<SoftConstraint> constraints,
+                               GlobalSoftConstraints globalSoftConstraints) {
+        this.exams = exams;
+        this.globalSoftConstraints = globalSoftConstraints;
+        this.globalConstraints = new ArrayList<>();
+        this.userConstraints = new ArrayList<>();
+        for (SoftConstraint constraint: constraints) {
+            if (constraint instanceof UserConstraint) {
+                userConstraints.add((UserConstraint) constraint);
+            }
+            else if (! globalSoftConstraints.evaluates(constraint)) {
+                globalConstraints.add(constraint);
+            }
+        }
+
+        IdentityHashMap<Exam, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < exams.size(); i++) {
+            positions.put(exams.get(i), i);
+        }
+
+        List<List<Integer>> constraintsOfExamLists = new ArrayList<>();
+        for (int i = 0; i < exams.size(); i++) {
+            constraintsOfExamLists.add(new ArrayList<>());
+        }
+        List<Integer> alwaysEvaluatedList = new ArrayList<>();
+        for (int j = 0; j < userConstraints.size(); j++) {
+            for (Exam exam: userConstraints.get(j).getInvolvedExams()) {
+                Integer position = positions.get(exam);
+                if (position == null) {
+                    alwaysEvaluatedList.add(j);
+                    break;
+                }
+                List<Integer> examConstraints = constraintsOfExamLists.get(position);
+                if (! examConstraints.contains(j)) {
+                    examConstraints.add(j);
+                }
+            }
+        }
+
+        this.constraintsOfExam = new int[exams.size()][];
+        for (int i = 0; i < exams.size(); i++) {
+            constraintsOfExam[i] = constraintsOfExamLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.alwaysEvaluated = alwaysEvaluatedList.stream().mapToInt(Integer::intValue).toArray();
+        this.lastDates = new LocalDate[exams.size()];
+        this.lastSeconds = new int[exams.size()];
+        this.unfulfilled = new boolean[userConstraints.size()];
+        this.dirty = new boolean[userConstraints.size()];
+    }
+
+    /**
+     * Counts the unfulfilled soft constraints over the current schedule.
+     *
+     * <p>
+     * The result is the same as calling {@link SoftConstraint#checkConstraint(ConstraintCounter)} on every
+     * constraint.
+     * @param counter The constraint counter instance that will be used for the checking of the soft constraints.
+     */
+    public void countConstraints(ConstraintCounter counter) {
+        globalSoftConstraints.checkConstraints(counter);
+        for (SoftConstraint constraint: globalConstraints) {
+            constraint.checkConstraint(counter);
+        }
+
+        markChangedExams();
+
+        for (int j = 0; j < userConstraints.size(); j++) {
+            UserConstraint constraint = userConstraints.get(j);
+            if (dirty[j]) {
+                constraint.checkConstraint(counter);
+                unfulfilled[j] = ! constraint.getLastEvaluation();
+                dirty[j] = false;
+            }
+            else if (unfulfilled[j]) {
+                constraint.countMe(counter);
+            }
+        }
+    }
+
+    /**
+     * Marks as dirty the user constraints of the exams whose date or hour changed since the last evaluation, and
+     * stores the current ones. All of them are marked on the first evaluation.
+     */
+    private void markChangedExams() {
+        for (int i = 0; i < exams.size(); i++) {
+            Exam exam = exams.get(i);
+            LocalDate date = exam.getDate();
+            int second = exam.getStartSecondOfDay();
+            if (! evaluated || second != lastSeconds[i] || ! Objects.equals(date, lastDates[i])) {
+                for (int j: constraintsOfExam[i]) {
+                    dirty[j] = true;
+                }
+                lastDates[i] = date;
+                lastSeconds[i] = second;
+            }
+        }
+        for (int j: alwaysEvaluated) {
+            dirty[j] = true;
+        }
+        evaluated = true;
+    }
+}
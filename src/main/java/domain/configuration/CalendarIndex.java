@@ -0,0 +1,91 @@
+package domain.configuration;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * This is an immutable index of the days of a calendar.
+ *
+ * <p>
+ * Each day gets as ordinal its position in the sorted calendar. The ordinal of a date is looked up in an array indexed
+ * by its distance in days to the first day of the calendar, so it does not need hashing nor allocations.
+ */
+public class CalendarIndex {
+
+    /**
+     * The days of the calendar, sorted.
+     */
+    private final List<LocalDate> days;
+
+    /**
+     * Epoch day of the first day of the calendar.
+     */
+    private final long firstEpochDay;
+
+    /**
+     * Ordinal of each date from the first day to the last one of the calendar, indexed by its distance to the first
+     * day. -1 for the dates that are not in the calendar.
+     */
+    private final int[] ordinals;
+
+    /**
+     * Constructor for the class.
+     * @param dates The days of the calendar, in any order. Repeated days are ignored.
+     */
+    public CalendarIndex(Collection<LocalDate> dates) {
+        this.days = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(dates)));
+        if (days.isEmpty()) {
+            this.firstEpochDay = 0;
+            this.ordinals = new int[0];
+            return;
+        }
+
+        this.firstEpochDay = days.get(0).toEpochDay();
+        long span = days.get(days.size() - 1).toEpochDay() - firstEpochDay + 1;
+        if (span > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The calendar spans too many days");
+        }
+        this.ordinals = new int[(int) span];
+        Arrays.fill(ordinals, -1);
+        for (int i = 0; i < days.size(); i++) {
+            ordinals[(int) (days.get(i).toEpochDay() - firstEpochDay)] = i;
+        }
+    }
+
+    /**
+     * Returns the days of the calendar.
+     * @return An unmodifiable list with the days of the calendar, sorted.
+     */
+    public List<LocalDate> getDays() {
+        return days;
+    }
+
+    /**
+     * Returns the number of days of the calendar.
+     * @return The number of days of the calendar.
+     */
+    public int size() {
+        return days.size();
+    }
+
+    /**
+     * Returns the ordinal of a date in the calendar.
+     * @param date The date whose ordinal is wanted.
+     * @return The position of {@code date} in {@link #getDays()}, -1 if it is not in the calendar or it is null.
+     */
+    public int indexOf(LocalDate date) {
+        if (date == null) {
+            return -1;
+        }
+        long offset = date.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset >= ordinals.length) {
+            return -1;
+        }
+        return ordinals[(int) offset];
+    }
+}
@@ -1,9 +1,13 @@
 package domain.configuration;
 
+import domain.parsers.excelReader.InputWorkbook;
+import geneticAlgorithm.output.OutputFormat;
+
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -29,6 +33,11 @@ public class Configurer {
      */
     private WeightConfigurer weigthConfigurer;
 
+    /**
+     * The sheets of the input Excel file, loaded once for all the parsers.
+     */
+    private InputWorkbook inputWorkbook;
+
     /**
      * The dateTime configurer.
      */
@@ -49,6 +58,11 @@ public class Configurer {
      */
     private ExcelConfigurer excelConfigurer;
 
+    /**
+     * Format in which the final schedules are written.
+     */
+    private OutputFormat outputFormat;
+
     /**
      * Constructor for the class
      * @param filePathsFilepath path to a properties file which has the paths to the other geneticAlgorithm.configuration files
@@ -69,10 +83,11 @@ public class Configurer {
         this.statisticalFolder = statisticalFolder.isEmpty() ? "" : (statisticalFolder + "/");
         loadFilePaths(filePathsFilepath);
         loadWeightConfigurer(this.statisticalFolder + filePaths.getProperty("weights"));
-        loadDateTimeConfigurer(this.statisticalFolder + filePaths.getProperty("dateTimes"),
-                filePaths.getProperty("inputFile"));
+        loadInputWorkbook(filePaths.getProperty("inputFile"));
+        loadDateTimeConfigurer(this.statisticalFolder + filePaths.getProperty("dateTimes"));
         loadGeneticAlgorithmParameters(this.statisticalFolder + filePaths.getProperty("geneticConfiguration"));
         loadExcelConfigurer(filePaths.getProperty("excelConfiguration"));
+        loadOutputFormat(filePaths.getProperty("outputFormat", "xlsx"));
     }
 
     /**
@@ -118,12 +133,19 @@ public class Configurer {
     }
 
     /**
-     * Creates a new instance of the DateTimeConfigurer
-     * @param dateTimeFilepath filepath to the properties file where the date and times configurations are declared.
+     * Loads the sheets of the input Excel file.
      * @param inputDataFilepath filepath to the input Excel file where the exams, constraints, and calendar are declared.
      */
-    private void loadDateTimeConfigurer( String dateTimeFilepath,  String inputDataFilepath) {
-        this.dateTimeConfigurer = new DateTimeConfigurer(dateTimeFilepath, inputDataFilepath);
+    private void loadInputWorkbook(String inputDataFilepath) {
+        this.inputWorkbook = InputWorkbook.load(inputDataFilepath);
+    }
+
+    /**
+     * Creates a new instance of the DateTimeConfigurer, with the calendar of the current input workbook.
+     * @param dateTimeFilepath filepath to the properties file where the date and times configurations are declared.
+     */
+    private void loadDateTimeConfigurer( String dateTimeFilepath) {
+        this.dateTimeConfigurer = new DateTimeConfigurer(dateTimeFilepath, inputWorkbook);
     }
 
     /**
@@ -134,6 +156,28 @@ public class Configurer {
         this.excelConfigurer = new ExcelConfigurer(excelFilepath);
     }
 
+    /**
+     * Sets the format in which the final schedules are written.
+     * @param format The name of the format, case insensitive.
+     * @throws IllegalArgumentException if the format is not one of {@link OutputFormat}.
+     */
+    private void loadOutputFormat(String format) {
+        try {
+            this.outputFormat = OutputFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown output format. Valid values are: " +
+                    Arrays.toString(OutputFormat.values()));
+        }
+    }
+
+    /**
+     * Returns the format in which the final schedules are written.
+     * @return The output format. XLSX if none was configured.
+     */
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
     /**
      * Returns the {@code excelConfigurer} attribute.
      * @return {@code excelConfigurer} attribute.
@@ -159,6 +203,14 @@ public class Configurer {
         return weigthConfigurer;
     }
 
+    /**
+     * Returns the sheets of the current input Excel file.
+     * @return The {@code InputWorkbook} loaded from the file at the "inputFile" path.
+     */
+    public InputWorkbook getInputWorkbook() {
+        return inputWorkbook;
+    }
+
     /**
      * Returns the {@code dateTimeConfigurer} attribute.
      * @return {@code dateTimeConfigurer} attribute.
@@ -182,8 +234,8 @@ public class Configurer {
      */
     public void swapInputFile(String inputFile) {
         filePaths.put("inputFile", inputFile);
-        loadDateTimeConfigurer(statisticalFolder + filePaths.getProperty("dateTimes"),
-                filePaths.getProperty("inputFile"));
+        loadInputWorkbook(filePaths.getProperty("inputFile"));
+        loadDateTimeConfigurer(statisticalFolder + filePaths.getProperty("dateTimes"));
     }
 
     /**
@@ -2,6 +2,7 @@ package domain.configuration;
 
 import domain.entities.Exam;
 import domain.entities.Interval;
+import domain.parsers.excelReader.InputWorkbook;
 import geneticAlgorithm.output.ExcelWriter;
 import logger.ConsoleLogger;
 import org.apache.poi.ss.usermodel.CellType;
@@ -36,6 +37,32 @@ public class DateTimeConfigurer {
      */
     private final HashMap<LocalDate, Interval> examDates;
 
+    /**
+     * Index of the dates of {@code examDates}, sorted. The position of each date is used as its index in the day masks
+     * and in the arrays of hours.
+     */
+    private final CalendarIndex calendarIndex;
+
+    /**
+     * First second of each calendar day at which exams can take place, indexed by day index.
+     */
+    private final int[] dayInitialSeconds;
+
+    /**
+     * Second of each calendar day at which all exams must have finished, indexed by day index.
+     */
+    private final int[] dayEndingSeconds;
+
+    /**
+     * {@code restingIntervalInitialHour} as a second of the day.
+     */
+    private final int restingIntervalInitialSecond;
+
+    /**
+     * {@code restingIntervalEndingHour} as a second of the day.
+     */
+    private final int restingIntervalEndingSecond;
+
     /**
      * Initial hour for a resting interval where the exams cannot start.
      */
@@ -69,11 +96,22 @@ public class DateTimeConfigurer {
     /**
      * Constructor for the class,
      * @param dateTimeFilepath filepath to property files where the date and time configurations are stored.
-     * @param inputDataFilepath filepath to the input Excel, where the exams, constraints and calendar are provided.
+     * @param inputWorkbook The sheets of the input Excel, where the exams, constraints and calendar are provided.
      */
-    public DateTimeConfigurer(String dateTimeFilepath, String inputDataFilepath) {
-        examDates = ExcelWriter.parseDates(inputDataFilepath);
+    public DateTimeConfigurer(String dateTimeFilepath, InputWorkbook inputWorkbook) {
+        examDates = ExcelWriter.parseDates(inputWorkbook);
+        calendarIndex = new CalendarIndex(examDates.keySet());
         parseTimeConfigurations(dateTimeFilepath);
+
+        List<LocalDate> calendarDays = calendarIndex.getDays();
+        dayInitialSeconds = new int[calendarDays.size()];
+        dayEndingSeconds = new int[calendarDays.size()];
+        for (int i = 0; i < calendarDays.size(); i++) {
+            dayInitialSeconds[i] = getDayInitialHour(calendarDays.get(i)).toSecondOfDay();
+            dayEndingSeconds[i] = getDayEndingHour(calendarDays.get(i)).toSecondOfDay();
+        }
+        restingIntervalInitialSecond = restingIntervalInitialHour.toSecondOfDay();
+        restingIntervalEndingSecond = restingIntervalEndingHour.toSecondOfDay();
     }
 
     /**
@@ -125,6 +163,33 @@ public class DateTimeConfigurer {
                 || currentHour.equals(restingIntervalInitialHour);
     }
 
+    /**
+     * Checks whether a given second of the day is in the resting interval or not.
+     * @param currentSecond The second of the day to be checked.
+     * @return true in case it is contained in the resting interval, false otherwise.
+     * @see #isHourInRestingInterval(LocalTime)
+     */
+    public boolean isSecondInRestingInterval(int currentSecond) {
+        return currentSecond > restingIntervalInitialSecond && currentSecond < restingIntervalEndingSecond
+                || currentSecond == restingIntervalInitialSecond;
+    }
+
+    /**
+     * Returns the initial hour of the resting interval as a second of the day.
+     * @return the second of the day at which the resting interval starts.
+     */
+    public int getRestingIntervalInitialSecond() {
+        return restingIntervalInitialSecond;
+    }
+
+    /**
+     * Returns the ending hour of the resting interval as a second of the day.
+     * @return the second of the day at which the resting interval ends.
+     */
+    public int getFinishingSecondRestingInterval() {
+        return restingIntervalEndingSecond;
+    }
+
     /**
      * Returns the ending hour of the resting interval.
      * @return the ending hour of the resting interval.
@@ -139,16 +204,37 @@ public class DateTimeConfigurer {
      * This implies both not to end after the day ending hour, but also not to start
      * before the day initial hour.
      * <p>
+     * @param day The calendar day on which the exam would take place.
      * @param endingHour Hour to be checked valid.
      * @return True if is a valid hour, false otherwise.
+     * @throws IllegalArgumentException If {@code day} is not in the calendar.
      */
     public boolean isValidEndingHourFor(LocalDate day, LocalTime endingHour) {
-        return (getDayEndingHour(day).isAfter(endingHour) ||
-                getDayEndingHour(day).equals(endingHour)) &&
+        int dayIndex = getDayIndex(day);
+        if (dayIndex < 0) {
+            throw new IllegalArgumentException("The date " + day + " is not in the calendar");
+        }
+        return isValidEndingSecondFor(dayIndex, endingHour.toSecondOfDay());
+    }
 
-                getDayInitialHour(day).isBefore(endingHour) &&
-                ! getDayInitialHour(day).equals(endingHour)
-                ;
+    /**
+     * Checks whether a given second of the day meets the criteria to be an ending on a calendar day.
+     * @param day The index of the day in the calendar.
+     * @param endingSecond Second of the day to be checked valid.
+     * @return True if is a valid ending, false otherwise.
+     * @see #isValidEndingHourFor(LocalDate, LocalTime)
+     */
+    public boolean isValidEndingSecondFor(int day, int endingSecond) {
+        return dayEndingSeconds[day] >= endingSecond && dayInitialSeconds[day] < endingSecond;
+    }
+
+    /**
+     * Returns the day starting hour of a calendar day as a second of the day.
+     * @param day The index of the day in the calendar.
+     * @return the second of the day at which exams can start on that day.
+     */
+    public int getDayInitialSecond(int day) {
+        return dayInitialSeconds[day];
     }
 
     /**
@@ -160,13 +246,36 @@ public class DateTimeConfigurer {
     }
 
     /**
-     * Returns the list of possible dates for the exams with their interval time
-     * @return the list of possible exam dates with their interval time.
+     * Returns the list of possible dates for the exams.
+     * @return An unmodifiable list with the possible exam dates, sorted.
      */
     public List<LocalDate> getExamDates() {
-        List<LocalDate> dates = new ArrayList<>(examDates.keySet());
-        dates.sort(LocalDate::compareTo);
-        return dates;
+        return calendarIndex.getDays();
+    }
+
+    /**
+     * Returns the sorted list of possible dates for the exams, which gives each date its index.
+     * @return An unmodifiable list with the possible exam dates, sorted.
+     */
+    public List<LocalDate> getCalendarDays() {
+        return calendarIndex.getDays();
+    }
+
+    /**
+     * Returns the index of the calendar days.
+     * @return The {@code CalendarIndex} of the possible exam dates.
+     */
+    public CalendarIndex getCalendarIndex() {
+        return calendarIndex;
+    }
+
+    /**
+     * Returns the index of a date in the calendar.
+     * @param day The date whose index is wanted.
+     * @return The position of {@code day} in {@link #getCalendarDays()}, -1 if it is not a possible exam date.
+     */
+    public int getDayIndex(LocalDate day) {
+        return calendarIndex.indexOf(day);
     }
 
     /**
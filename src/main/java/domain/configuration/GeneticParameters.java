@@ -1,5 +1,6 @@
 package domain.configuration;
 
+import geneticAlgorithm.MigrationTopology;
 import logger.dataGetter.fitnessLogger.GeneticLogger;
 import utils.Utils;
 
@@ -68,6 +69,68 @@ public class GeneticParameters {
      */
     private final boolean errorAsking;
 
+    /**
+     * Number of threads used to evaluate the individuals of each generation.
+     *
+     * <p>
+     * It is optional, by default it will be set to one, which means that the evaluation is done in the main thread.
+     * It must be one when there are several islands, since each island is already evolved in its own thread.
+     */
+    private int evaluationThreads = 1;
+
+    /**
+     * Seed for the random generator of the algorithm. Null if no seed was provided.
+     */
+    private Long randomSeed;
+
+    /**
+     * Name of the selection operator: roulette, tournament or sus (stochastic universal sampling).
+     */
+    private String selectionOperator = "roulette";
+
+    /**
+     * Number of individuals that take part in each tournament of the tournament selection.
+     */
+    private int tournamentSize = 3;
+
+    /**
+     * Name of the crossover operator: ox, pmx or cycle.
+     */
+    private String crossoverOperator = "ox";
+
+    /**
+     * Maximum number of fitness values kept in the fitness cache. Zero disables the cache.
+     */
+    private int fitnessCacheSize = 0;
+
+    /**
+     * Number of islands in which the population is split. One means that the classic algorithm is used.
+     *
+     * <p>
+     * When there are several islands, each one of them has {@code populationSize / islands} individuals.
+     */
+    private int islands = 1;
+
+    /**
+     * Number of generations between two migrations of the island model.
+     */
+    private int migrationInterval = 50;
+
+    /**
+     * Number of individuals sent by each island on every migration.
+     */
+    private int migrants = 2;
+
+    /**
+     * Islands to which the migrants are sent.
+     */
+    private MigrationTopology migrationTopology = MigrationTopology.RING;
+
+    /**
+     * Number of genes between two checkpoints of the decoder. Zero disables the checkpoints.
+     */
+    private int decoderCheckpointInterval = 0;
+
     private GeneticParameters(int generations, int populationSize, int loggingFrequency, double mutationProbability,
                               int maxSchedulesToTake, double crossoverProbability, int repairingDepth,
                               int algorithmRepetitions, boolean errorAsking) {
@@ -118,13 +181,57 @@ public class GeneticParameters {
         return repairingDepth;
     }
 
+    public int getEvaluationThreads() {
+        return evaluationThreads;
+    }
+
+    public Long getRandomSeed() {
+        return randomSeed;
+    }
+
+    public String getSelectionOperator() {
+        return selectionOperator;
+    }
+
+    public int getTournamentSize() {
+        return tournamentSize;
+    }
+
+    public String getCrossoverOperator() {
+        return crossoverOperator;
+    }
+
+    public int getFitnessCacheSize() {
+        return fitnessCacheSize;
+    }
+
+    public int getIslands() {
+        return islands;
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    public int getMigrants() {
+        return migrants;
+    }
+
+    public MigrationTopology getMigrationTopology() {
+        return migrationTopology;
+    }
+
+    public int getDecoderCheckpointInterval() {
+        return decoderCheckpointInterval;
+    }
+
     public static GeneticParameters loadFromFile(String filePath) {
 
         Properties geneticProperties = new Properties();
         try (InputStream configStream = new FileInputStream(filePath)) {
 
             geneticProperties.load(configStream);
-            return new GeneticParameters(Integer.parseInt(Utils.nullFilter(geneticProperties.getProperty("generations"))),
+            GeneticParameters geneticParameters = new GeneticParameters(Integer.parseInt(Utils.nullFilter(geneticProperties.getProperty("generations"))),
                     Integer.parseInt(Utils.nullFilter(geneticProperties.getProperty("populationSize"))),
                     Integer.parseInt(Utils.nullFilter(geneticProperties.getProperty("loggingFreq"))),
                     Double.parseDouble(Utils.nullFilter(geneticProperties.getProperty("mutationProb"))),
@@ -134,6 +241,60 @@ public class GeneticParameters {
                     Integer.parseInt(Utils.nullFilter(geneticProperties.getProperty("algorithmRepetitions"))),
                     Boolean.parseBoolean(Utils.nullFilter(geneticProperties.getProperty("inputWarningsStop"))));
 
+            geneticParameters.evaluationThreads = Integer.parseInt(
+                    geneticProperties.getProperty("evaluationThreads", "1").trim());
+            if (geneticParameters.evaluationThreads < 1) {
+                throw new IllegalArgumentException("Property evaluationThreads must be greater than 0.");
+            }
+            String seed = geneticProperties.getProperty("randomSeed");
+            if (seed != null) {
+                geneticParameters.randomSeed = Long.parseLong(seed.trim());
+            }
+
+            geneticParameters.selectionOperator = geneticProperties.getProperty("selectionOperator", "roulette")
+                    .trim().toLowerCase();
+            geneticParameters.tournamentSize = Integer.parseInt(
+                    geneticProperties.getProperty("tournamentSize", "3").trim());
+            if (geneticParameters.tournamentSize < 1) {
+                throw new IllegalArgumentException("Property tournamentSize must be greater than 0.");
+            }
+
+            geneticParameters.crossoverOperator = geneticProperties.getProperty("crossoverOperator", "ox")
+                    .trim().toLowerCase();
+
+            geneticParameters.fitnessCacheSize = Integer.parseInt(
+                    geneticProperties.getProperty("fitnessCacheSize", "0").trim());
+            if (geneticParameters.fitnessCacheSize < 0) {
+                throw new IllegalArgumentException("Property fitnessCacheSize cannot be negative.");
+            }
+
+            geneticParameters.islands = Integer.parseInt(geneticProperties.getProperty("islands", "1").trim());
+            geneticParameters.migrationInterval = Integer.parseInt(
+                    geneticProperties.getProperty("migrationInterval", "50").trim());
+            geneticParameters.migrants = Integer.parseInt(geneticProperties.getProperty("migrants", "2").trim());
+            if (geneticParameters.islands < 1 || geneticParameters.migrationInterval < 1 ||
+                    geneticParameters.migrants < 0) {
+                throw new IllegalArgumentException("Island model properties must be positive numbers.");
+            }
+            if (geneticParameters.islands > 1 && geneticParameters.evaluationThreads > 1) {
+                throw new IllegalArgumentException("Properties islands and evaluationThreads cannot be both greater " +
+                        "than 1. Each island is already evolved in its own thread.");
+            }
+            try {
+                geneticParameters.migrationTopology = MigrationTopology.valueOf(
+                        geneticProperties.getProperty("migrationTopology", "ring").trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown migration topology. Valid values are: " +
+                        Arrays.toString(MigrationTopology.values()));
+            }
+
+            geneticParameters.decoderCheckpointInterval = Integer.parseInt(
+                    geneticProperties.getProperty("decoderCheckpointInterval", "0").trim());
+            if (geneticParameters.decoderCheckpointInterval < 0) {
+                throw new IllegalArgumentException("Property decoderCheckpointInterval cannot be negative.");
+            }
+            return geneticParameters;
+
 
         } catch (NullPointerException e) {
             String[] neededProperties = {"generations", "populationSize", "loggingFreq", "mutationProb",
@@ -199,6 +360,44 @@ public class GeneticParameters {
         sb.append(getAlgorithmRepetitions());
         sb.append("\n");
 
+        sb.append("Evaluation Threads: ");
+        sb.append(getEvaluationThreads());
+        sb.append("\n");
+
+        sb.append("Selection Operator: ");
+        sb.append(getSelectionOperator());
+        if (getSelectionOperator().equals("tournament")) {
+            sb.append(" (size ");
+            sb.append(getTournamentSize());
+            sb.append(")");
+        }
+        sb.append("\n");
+
+        sb.append("Crossover Operator: ");
+        sb.append(getCrossoverOperator());
+        sb.append("\n");
+
+        sb.append("Fitness Cache Size: ");
+        sb.append(getFitnessCacheSize());
+        sb.append("\n");
+
+        sb.append("Decoder Checkpoint Interval: ");
+        sb.append(getDecoderCheckpointInterval());
+        sb.append("\n");
+
+        if (getIslands() > 1) {
+            sb.append("Islands: ");
+            sb.append(getIslands());
+            sb.append(" (migration of ");
+            sb.append(getMigrants());
+            sb.append(" individuals every ");
+            sb.append(getMigrationInterval());
+            sb.append(" generations, ");
+            sb.append(getMigrationTopology().toString().toLowerCase());
+            sb.append(" topology)");
+            sb.append("\n");
+        }
+
         return sb.toString();
     }
 }
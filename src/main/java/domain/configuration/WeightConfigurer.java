@@ -1,5 +1,6 @@
 package domain.configuration;
 
+import domain.constraints.counter.ConstraintType;
 import domain.constraints.types.softConstraints.fullySoftConstraints.RestingIntervalPenalization;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import logger.ConsoleLogger;
@@ -10,6 +11,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Objects;
 import java.util.Properties;
 
 /**
@@ -27,12 +29,18 @@ public class WeightConfigurer {
      */
     final HashMap<String, Double> weights;
 
+    /**
+     * Weight of each {@link ConstraintType}, indexed by its ordinal. 0 for the types without weight.
+     */
+    private final double[] weightVector;
+
     /**
      * Constructor for the class
      * @param weightFilepath filepath to the properties file where the constraint weights are provided.
      */
     public WeightConfigurer(String weightFilepath) {
         weights = new HashMap<>();
+        weightVector = new double[ConstraintType.COUNT];
 
         parseWeights(weightFilepath);
     }
@@ -55,11 +63,11 @@ public class WeightConfigurer {
         // p.load(getClass().getClassLoader().getResourceAsStream(weightFilepath));
 
         ConsoleLogger.getConsoleLoggerInstance().logInfo("Parsing fitness weights...");
-        String[] neededProperties = {"DB", "TD", "SD", "DD",
-                "OE", "DI", "RIP", "NCP", "UE", "SCDD"};
+        String[] neededProperties = Arrays.stream(ConstraintType.values()).map(ConstraintType::getWeightId)
+                .filter(Objects::nonNull).toArray(String[]::new);
         for (String key: neededProperties) {
             try {
-                weights.put(key, Double.parseDouble(weigthProperties.getProperty(key)));
+                putWeight(key, Double.parseDouble(weigthProperties.getProperty(key)));
             } catch (NullPointerException e) {
 
                 throw new IllegalArgumentException("Missing properties in weights configuration file.\n" +
@@ -69,13 +77,36 @@ public class WeightConfigurer {
                 ConsoleLogger.getConsoleLoggerInstance().logError("Could not get weigth for cosntriction of ID: "
                         + key + ". Got value: "
                         + weigthProperties.getProperty(key) + ", using 0 instead");
-                weights.put(key, 0d);
+                putWeight(key, 0d);
             }
         }
 
         ConsoleLogger.getConsoleLoggerInstance().logInfo("Fitness weights parsed:" + weights.size());
     }
 
+    /**
+     * Sets the weight of a constraint id, both in {@code weights} and in {@code weightVector}.
+     * @param constraintID The constraint id.
+     * @param weight The new weight.
+     */
+    private void putWeight(String constraintID, double weight) {
+        weights.put(constraintID, weight);
+        for (ConstraintType type: ConstraintType.values()) {
+            if (constraintID.equals(type.getWeightId())) {
+                weightVector[type.ordinal()] = weight;
+            }
+        }
+    }
+
+    /**
+     * Returns the weight of each type of constraint.
+     * @return A copy of the weights indexed by the ordinal of their {@link ConstraintType}, 0 for the types without
+     * weight.
+     */
+    public double[] getWeightVector() {
+        return weightVector.clone();
+    }
+
     /**
      * Returns the weight of a given constraint id.
      * @param constraintID The constraint id whose weight is wanted to be returned.
@@ -100,12 +131,12 @@ public class WeightConfigurer {
      * @param userConstraintsWeight New value for the weight of all the User Constraints.
      */
     public void setUserConstraintsWeight(double userConstraintsWeight) {
-        weights.put("DB", userConstraintsWeight);
-        weights.put("TD", userConstraintsWeight);
-        weights.put("SD", userConstraintsWeight);
-        weights.put("DD", userConstraintsWeight);
-        weights.put("OE", userConstraintsWeight);
-        weights.put("DI", userConstraintsWeight);
+        putWeight("DB", userConstraintsWeight);
+        putWeight("TD", userConstraintsWeight);
+        putWeight("SD", userConstraintsWeight);
+        putWeight("DD", userConstraintsWeight);
+        putWeight("OE", userConstraintsWeight);
+        putWeight("DI", userConstraintsWeight);
     }
 
     /**
@@ -113,7 +144,7 @@ public class WeightConfigurer {
      * @param restingIntervalWeight New value for the weight of the Prohibited Interval Penalization.
      */
     public void setProhibitedIntervalWeight(double restingIntervalWeight) {
-        weights.put("RIP", restingIntervalWeight);
+        putWeight("RIP", restingIntervalWeight);
     }
 
     /**
@@ -121,6 +152,6 @@ public class WeightConfigurer {
      * @param numericalComplexityWeight New value for the weight of the Numerical Complexity Penalization.
      */
     public void setNumericalComplexityWeight(double numericalComplexityWeight) {
-        weights.put("NCP", numericalComplexityWeight);
+        putWeight("NCP", numericalComplexityWeight);
     }
 }
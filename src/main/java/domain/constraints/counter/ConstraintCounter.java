@@ -10,6 +10,9 @@ import domain.constraints.types.softConstraints.userConstraints.*;
  * can have any kind of function that it is needed.
  * <p>
  * To implement this functionality, Visitor design pattern was followed.
+ * <p>
+ * The counts are also accessible by {@link ConstraintType}, which allows the fitness functions to treat all the types
+ * alike, as a vector.
  *
  */
 public interface ConstraintCounter {
@@ -91,64 +94,107 @@ public interface ConstraintCounter {
      */
     void count(DayIntervalConstraint dayIntervalConstraint);
 
+    /**
+     * Returns the current counter for a type of constraint.
+     * @param type The type of constraint.
+     * @return the current counter for {@code type}.
+     */
+    double getCount(ConstraintType type);
+
+    /**
+     * Returns the sum of the counters multiplied by their weights.
+     *
+     * <p>
+     * The terms are added in the order of {@link ConstraintType}.
+     * @param weights The weight of each type of constraint, indexed by its ordinal.
+     * @return the weighted sum of the counters.
+     */
+    default double weightedSum(double[] weights) {
+        double result = 0;
+        for (ConstraintType type: ConstraintType.values()) {
+            result += getCount(type) * weights[type.ordinal()];
+        }
+        return result;
+    }
+
     /**
      * Returns the current counter for {@link TimeDisplacementConstraint}
      * @return the current counter for {@link TimeDisplacementConstraint}
      */
-    int getCountOfTimeDisplacementConstraint();
+    default int getCountOfTimeDisplacementConstraint() {
+        return (int) getCount(ConstraintType.TIME_DISPLACEMENT);
+    }
 
     /**
      * Returns the current counter for {@link DayBannedConstraint}
      * @return the current counter for {@link DayBannedConstraint}
      */
-    int getCountOfDaysBannedConstraint();
+    default int getCountOfDaysBannedConstraint() {
+        return (int) getCount(ConstraintType.DAY_BANNED);
+    }
 
     /**
      * Returns the current counter for {@link SameDayConstraint}
      * @return the current counter for {@link SameDayConstraint}
      */
-    int getCountOfSameDayConstraint();
+    default int getCountOfSameDayConstraint() {
+        return (int) getCount(ConstraintType.SAME_DAY);
+    }
 
     /**
      * Returns the current counter for {@link UnscheduledExamsConstraint}
      * @return the current counter for {@link UnscheduledExamsConstraint}
      */
-    int getCountOfUnscheduledExamsConstraint();
+    default int getCountOfUnscheduledExamsConstraint() {
+        return (int) getCount(ConstraintType.UNSCHEDULED_EXAMS);
+    }
 
     /**
      * Returns the current counter for {@link DifferentDayConstraint}
      * @return the current counter for {@link DifferentDayConstraint}
      */
-    int getCountOfDifferentDayConstraint();
+    default int getCountOfDifferentDayConstraint() {
+        return (int) getCount(ConstraintType.DIFFERENT_DAY);
+    }
 
     /**
      * Returns the current counter for {@link OrderExamsConstraint}
      * @return the current counter for {@link OrderExamsConstraint}
      */
-    int getCountOrderExamsConstraint();
+    default int getCountOrderExamsConstraint() {
+        return (int) getCount(ConstraintType.ORDER_EXAMS);
+    }
 
     /**
      * Returns the current counter for {@link SameCourseDifferentDayConstraint}
      * @return the current counter for {@link SameCourseDifferentDayConstraint}
      */
-    int getCountSameCourseDifferentDayConstraint();
+    default int getCountSameCourseDifferentDayConstraint() {
+        return (int) getCount(ConstraintType.SAME_COURSE_DIFFERENT_DAY);
+    }
 
     /**
      * Returns the current counter for {@link RestingIntervalPenalization}
      * @return the current counter for {@link RestingIntervalPenalization}
      */
-    long getCountRestingIntervalPenalization();
+    default long getCountRestingIntervalPenalization() {
+        return (long) getCount(ConstraintType.RESTING_INTERVAL);
+    }
 
     /**
      * Returns the current counter for {@link NumericalComplexityPenalization}
      * @return the current counter for {@link NumericalComplexityPenalization}
      */
-    double getNumericalComplexityPenalization();
+    default double getNumericalComplexityPenalization() {
+        return getCount(ConstraintType.NUMERICAL_COMPLEXITY);
+    }
 
     /**
      * Returns the current counter for {@link DayIntervalConstraint}
      * @return the current counter for {@link DayIntervalConstraint}
      */
-    int getCountDayIntervalConstraint();
+    default int getCountDayIntervalConstraint() {
+        return (int) getCount(ConstraintType.DAY_INTERVAL);
+    }
 
 }
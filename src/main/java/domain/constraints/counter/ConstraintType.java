@@ -0,0 +1,65 @@
+package domain.constraints.counter;
+
+import domain.constraints.types.softConstraints.fullySoftConstraints.*;
+import domain.constraints.types.softConstraints.userConstraints.*;
+
+/**
+ * This enumerates the types of soft constraints counted by a {@link ConstraintCounter}.
+ *
+ * <p>
+ * The ordinal of each type is its position in the arrays of counts and weights, and the order of the types is the
+ * order in which the terms of the fitness function are added.
+ */
+public enum ConstraintType {
+
+    TIME_DISPLACEMENT(TimeDisplacementConstraint.CONSTRICTION_ID, true),
+    DAY_BANNED(DayBannedConstraint.CONSTRICTION_ID, true),
+    SAME_DAY(SameDayConstraint.CONSTRICTION_ID, true),
+    UNSCHEDULED_EXAMS(UnscheduledExamsConstraint.CONSTRICTION_ID, false),
+    DIFFERENT_DAY(DifferentDayConstraint.CONSTRICTION_ID, true),
+    ORDER_EXAMS(OrderExamsConstraint.CONSTRICTION_ID, true),
+    SAME_COURSE_DIFFERENT_DAY(SameCourseDifferentDayConstraint.CONSTRICTION_ID, false),
+    RESTING_INTERVAL(RestingIntervalPenalization.CONSTRICTION_ID, false),
+    NUMERICAL_COMPLEXITY(NumericalComplexityPenalization.CONSTRICTION_ID, false),
+    DAY_INTERVAL(DayIntervalConstraint.CONSTRICTION_ID, true),
+    /**
+     * {@link UnbalancedDaysPenalization} is not used, so it has no weight.
+     */
+    UNBALANCED_DAYS(null, false);
+
+    /**
+     * Number of constraint types.
+     */
+    public static final int COUNT = values().length;
+
+    /**
+     * Id of the weight of the type in the weights configuration file, null if it has no weight.
+     */
+    private final String weightId;
+
+    /**
+     * Whether the type is a {@link UserConstraint}.
+     */
+    private final boolean userConstraint;
+
+    ConstraintType(String weightId, boolean userConstraint) {
+        this.weightId = weightId;
+        this.userConstraint = userConstraint;
+    }
+
+    /**
+     * Returns the id of the weight of the type.
+     * @return The id of the type in the weights configuration file, null if it has no weight.
+     */
+    public String getWeightId() {
+        return weightId;
+    }
+
+    /**
+     * Indicates whether the type is a {@link UserConstraint}.
+     * @return True if the constraints of this type are user constraints, false otherwise.
+     */
+    public boolean isUserConstraint() {
+        return userConstraint;
+    }
+}
@@ -5,123 +5,100 @@ import domain.constraints.types.softConstraints.userConstraints.*;
 
 /**
  * This is a default implementation for {@code ConstraintCounter}.
+ *
+ * <p>
+ * The counters are stored in an array indexed by the ordinal of their {@link ConstraintType}.
  */
 public class DefaultConstraintCounter implements ConstraintCounter {
 
-    private int timeDisplacementCounter;
-    private int daysBannedCounter;
-    private int sameDayCounter;
-    private int unclassifiedExamsCounter;
-    private int differentDayCounter;
-    private int orderExamsCounter;
-    private int sameCourseDifferentDayCounter;
-    private long restingIntervalPenalizationCounter;
-    private long unbalancedDaysPenalizationCounter;
-    private double numericalComplexityPenalizationCounter;
-    private int dayIntervalCounter;
+    /**
+     * Counter of each type of constraint, indexed by the ordinal of the type.
+     */
+    private final double[] counts = new double[ConstraintType.COUNT];
+
+    /**
+     * Increments the counter of a type of constraint.
+     * @param type The type of constraint.
+     */
+    private void increment(ConstraintType type) {
+        counts[type.ordinal()]++;
+    }
+
+    /**
+     * Sets the counter of a type of constraint.
+     * @param type The type of constraint.
+     * @param value The new value of the counter.
+     */
+    private void set(ConstraintType type, double value) {
+        counts[type.ordinal()] = value;
+    }
 
     @Override
     public void count(TimeDisplacementConstraint timeDisplacementConstraint) {
-        timeDisplacementCounter++;
+        increment(ConstraintType.TIME_DISPLACEMENT);
     }
 
     @Override
     public void count(DayBannedConstraint daysBannedConstraint) {
-        daysBannedCounter++;
+        increment(ConstraintType.DAY_BANNED);
     }
 
     @Override
     public void count(SameDayConstraint sameDayConstraint) {
-        sameDayCounter++;
+        increment(ConstraintType.SAME_DAY);
     }
 
     @Override
     public void count(UnscheduledExamsConstraint unscheduledExamsConstraint) {
-        unclassifiedExamsCounter++;
+        increment(ConstraintType.UNSCHEDULED_EXAMS);
     }
 
     @Override
     public void count(DifferentDayConstraint differentDayConstraint) {
-        differentDayCounter++;
+        increment(ConstraintType.DIFFERENT_DAY);
     }
 
     @Override
     public void count(OrderExamsConstraint orderExamsConstraint) {
-        orderExamsCounter++;
+        increment(ConstraintType.ORDER_EXAMS);
     }
 
     @Override
     public void count(SameCourseDifferentDayConstraint sameCourseDifferentDayConstraint) {
-        sameCourseDifferentDayCounter = sameCourseDifferentDayConstraint.getOccurrences();
+        set(ConstraintType.SAME_COURSE_DIFFERENT_DAY, sameCourseDifferentDayConstraint.getOccurrences());
     }
 
     @Override
     public void count(RestingIntervalPenalization restingIntervalPenalization) {
-        restingIntervalPenalizationCounter = restingIntervalPenalization.getMinutes();
+        set(ConstraintType.RESTING_INTERVAL, restingIntervalPenalization.getMinutes());
     }
 
     @Override
     public void count(UnbalancedDaysPenalization unbalancedDaysPenalization) {
-        unbalancedDaysPenalizationCounter = unbalancedDaysPenalization.getMinutes();
+        set(ConstraintType.UNBALANCED_DAYS, unbalancedDaysPenalization.getMinutes());
     }
 
     @Override
     public void count(NumericalComplexityPenalization numericalComplexityPenalization) {
-        numericalComplexityPenalizationCounter = numericalComplexityPenalization.getAccumulator();
+        set(ConstraintType.NUMERICAL_COMPLEXITY, numericalComplexityPenalization.getAccumulator());
     }
 
     @Override
     public void count(DayIntervalConstraint dayIntervalConstraint) {
-        dayIntervalCounter++;
-    }
-
-    @Override
-    public int getCountOfTimeDisplacementConstraint() {
-        return timeDisplacementCounter;
-    }
-
-    @Override
-    public int getCountOfDaysBannedConstraint() {
-        return daysBannedCounter;
-    }
-
-    @Override
-    public int getCountOfSameDayConstraint() {
-        return sameDayCounter;
-    }
-
-    @Override
-    public int getCountOfUnscheduledExamsConstraint() {
-        return unclassifiedExamsCounter;
-    }
-
-    @Override
-    public int getCountOfDifferentDayConstraint() {
-        return differentDayCounter;
-    }
-
-    @Override
-    public int getCountOrderExamsConstraint() {
-        return orderExamsCounter;
-    }
-
-    @Override
-    public int getCountSameCourseDifferentDayConstraint() {
-        return sameCourseDifferentDayCounter;
-    }
-
-    @Override
-    public long getCountRestingIntervalPenalization() {
-        return restingIntervalPenalizationCounter;
+        increment(ConstraintType.DAY_INTERVAL);
     }
 
     @Override
-    public double getNumericalComplexityPenalization() {
-        return numericalComplexityPenalizationCounter;
+    public double getCount(ConstraintType type) {
+        return counts[type.ordinal()];
     }
 
     @Override
-    public int getCountDayIntervalConstraint() {
-        return dayIntervalCounter;
+    public double weightedSum(double[] weights) {
+        double result = 0;
+        for (int i = 0; i < counts.length; i++) {
+            result += counts[i] * weights[i];
+        }
+        return result;
     }
 }
@@ -3,8 +3,8 @@ package domain.constraints.types.hardConstraints;
 import domain.entities.Exam;
 
 import java.time.LocalDate;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * This provides a default implementation of the {@code filterViableDays} days method, allowing the inheritors to just
@@ -13,17 +13,15 @@ import java.util.Set;
 public abstract class AbstractHardConstraint implements HardConstraint {
 
     @Override
-    public Set<LocalDate> filterViableDays(Set<LocalDate> days, Exam examToCheck) {
-        Set<LocalDate> validDates = new HashSet<>();
-        for (LocalDate day: days) {
-            LocalDate prevDate = examToCheck.getDate();
-            examToCheck.setDate(day);
-            if (isFulfilled()){
-                validDates.add(day);
+    public void filterViableDays(BitSet days, List<LocalDate> calendar, Exam examToCheck) {
+        LocalDate prevDate = examToCheck.getDate();
+        for (int day = days.nextSetBit(0); day >= 0; day = days.nextSetBit(day + 1)) {
+            examToCheck.setDate(calendar.get(day));
+            if (! isFulfilled()){
+                days.clear(day);
             }
-            examToCheck.setDate(prevDate);
         }
-        return validDates;
+        examToCheck.setDate(prevDate);
     }
 
     /**
@@ -3,7 +3,8 @@ package domain.constraints.types.hardConstraints;
 import domain.entities.Exam;
 
 import java.time.LocalDate;
-import java.util.Set;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * Type of constraints that must be fulfilled at all cost and that could imply leaving unscheduled exams at the end of
@@ -14,16 +15,31 @@ import java.util.Set;
  * be placed. {@code filterViableDays} will be called for all the {@code HardConstraint} of an {@code Exam} with the set of
  * available days (initially the whole calendar). The output of the first call will be the input of the second call, and
  * so far so forth. Finally the set of days in which the hard constraints of the exam allow it to be placed will be obtained.
+ *
+ * <p>
+ * The sets of days are {@code BitSet} masks over the sorted calendar, where bit i stands for the i-th calendar day.
  */
 public interface HardConstraint {
 
     /**
-     * Filters a list of days. Returning another list with days that meet the constraint.
-     * @param days The list of possible days that we want to check.
+     * Filters a set of days, clearing the ones that do not meet the constraint.
+     * @param days The mask of possible days that we want to check. It is modified in place.
+     * @param calendar The sorted calendar days, to which the bits of {@code days} refer.
      * @param examToCheck The exam that will be currently in process of scheduling.
-     * @return A list of viable days for the constraints.
      */
-    Set<LocalDate> filterViableDays(Set<LocalDate> days, Exam examToCheck);
+    void filterViableDays(BitSet days, List<LocalDate> calendar, Exam examToCheck);
+
+    /**
+     * States whether the constraint only depends on the date of the exam it is linked to, and not on the rest of the
+     * schedule.
+     *
+     * <p>
+     * The days allowed by these constraints are computed once per exam, instead of on every decoding.
+     * @return True if the days it allows never change, false otherwise.
+     */
+    default boolean isStatic() {
+        return false;
+    }
 
     /**
      * Returns the string id for the type of {@code Constraint}.
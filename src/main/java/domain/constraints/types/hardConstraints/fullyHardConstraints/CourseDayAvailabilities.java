@@ -0,0 +1,216 @@
+package domain.constraints.types.hardConstraints.fullyHardConstraints;
+
+import domain.configuration.DateTimeConfigurer;
+import domain.entities.Exam;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * This holds, for each day of the calendar, how many exams of each course, and of each course and semester, are
+ * currently scheduled on it, so that {@link IsolateCourseOnDayConstraint} can check the courses and semesters when
+ * scheduling new exams without scanning the exams of the day.
+ *
+ * <p>
+ * Each exam also knows the exams that have it as round partner. Those exams do not count as a collision of its course,
+ * and there are only a few of them, so they are checked one by one.
+ *
+ * <p>
+ * Each {@link domain.ExamsSchedule} owns its own instance, which allows several schedules to be decoded at the same
+ * time in different threads.
+ */
+public class CourseDayAvailabilities {
+
+    /**
+     * Configurer used to get the index of each day of the calendar.
+     */
+    private final DateTimeConfigurer dateTimeConfigurer;
+
+    /**
+     * Position of each exam of the schedule, used to index the rest of arrays.
+     */
+    private final IdentityHashMap<Exam, Integer> positions;
+
+    /**
+     * Index of the course of each exam in {@code courseCounts}.
+     */
+    private final int[] courseKeys;
+
+    /**
+     * Index of the course and semester of each exam in {@code courseSemesterCounts}.
+     */
+    private final int[] courseSemesterKeys;
+
+    /**
+     * Positions of the exams that have each exam among their round partners.
+     */
+    private final int[][] partnerListers;
+
+    /**
+     * Index of the day on which each exam is currently counted, -1 if it is not.
+     */
+    private final int[] countedDays;
+
+    /**
+     * Number of exams of each course scheduled on each day, indexed by day and course key.
+     */
+    private final int[][] courseCounts;
+
+    /**
+     * Number of exams of each course and semester scheduled on each day, indexed by day and course-semester key.
+     */
+    private final int[][] courseSemesterCounts;
+
+    /**
+     * Constructor for the class.
+     * @param exams The exams of the schedule.
+     * @param dateTimeConfigurer The configurer that holds the calendar.
+     */
+    public CourseDayAvailabilities(List<Exam> exams, DateTimeConfigurer dateTimeConfigurer) {
+        this.dateTimeConfigurer = dateTimeConfigurer;
+        this.positions = new IdentityHashMap<>();
+        this.courseKeys = new int[exams.size()];
+        this.courseSemesterKeys = new int[exams.size()];
+        this.countedDays = new int[exams.size()];
+        Arrays.fill(countedDays, -1);
+
+        HashMap<Integer, Integer> courses = new HashMap<>();
+        HashMap<Long, Integer> courseSemesters = new HashMap<>();
+        HashMap<Integer, List<Integer>> positionsById = new HashMap<>();
+        for (int i = 0; i < exams.size(); i++) {
+            Exam exam = exams.get(i);
+            positions.put(exam, i);
+            courseKeys[i] = courses.computeIfAbsent(exam.getCourse(), (course) -> courses.size());
+            long courseSemester = ((long) exam.getCourse() << 32) | (exam.getSemester() & 0xFFFFFFFFL);
+            courseSemesterKeys[i] = courseSemesters.computeIfAbsent(courseSemester, (key) -> courseSemesters.size());
+            positionsById.computeIfAbsent(exam.getId(), (id) -> new ArrayList<>()).add(i);
+        }
+
+        List<List<Integer>> listers = new ArrayList<>();
+        for (int i = 0; i < exams.size(); i++) {
+            listers.add(new ArrayList<>());
+        }
+        for (int i = 0; i < exams.size(); i++) {
+            for (Integer partnerId: exams.get(i).getRoundPartners()) {
+                for (int partner: positionsById.getOrDefault(partnerId, List.of())) {
+                    List<Integer> partnerListersList = listers.get(partner);
+                    if (! partnerListersList.contains(i)) {
+                        partnerListersList.add(i);
+                    }
+                }
+            }
+        }
+        this.partnerListers = new int[exams.size()][];
+        for (int i = 0; i < exams.size(); i++) {
+            partnerListers[i] = listers.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int days = dateTimeConfigurer.getCalendarDays().size();
+        this.courseCounts = new int[days][courses.size()];
+        this.courseSemesterCounts = new int[days][courseSemesters.size()];
+    }
+
+    /**
+     * Sets the counters to their default state.
+     * @param preScheduledExams The list of pre scheduled exams.
+     */
+    public void reset(List<Exam> preScheduledExams) {
+        Arrays.fill(countedDays, -1);
+        for (int[] counts: courseCounts) {
+            Arrays.fill(counts, 0);
+        }
+        for (int[] counts: courseSemesterCounts) {
+            Arrays.fill(counts, 0);
+        }
+
+        for (Exam exam: preScheduledExams) {
+            addCourseToDate(exam.getDate(), exam);
+        }
+    }
+
+    /**
+     * Adds the data of an exam to the data structures when it was scheduled.
+     * @param date The day in which the exam was scheduled.
+     * @param examToAdd The exam that was scheduled.
+     */
+    public void addCourseToDate(LocalDate date, Exam examToAdd) {
+        int day = dateTimeConfigurer.getDayIndex(date);
+        if (day < 0) {
+            return;
+        }
+        int position = positions.get(examToAdd);
+        if (countedDays[position] >= 0) {
+            uncount(position);
+        }
+        countedDays[position] = day;
+        courseCounts[day][courseKeys[position]]++;
+        courseSemesterCounts[day][courseSemesterKeys[position]]++;
+    }
+
+    /**
+     * Removes the data of an exam to the data structures when it was unscheduled.
+     * @param date The day in which the exam was unscheduled.
+     * @param examToRemove The exam that was unscheduled.
+     */
+    public void removeCourseFromDate(LocalDate date, Exam examToRemove) {
+        int position = positions.get(examToRemove);
+        if (countedDays[position] >= 0 && countedDays[position] == dateTimeConfigurer.getDayIndex(date)) {
+            uncount(position);
+        }
+    }
+
+    /**
+     * Removes an exam from the counters of the day on which it is counted.
+     * @param position The position of the exam.
+     */
+    private void uncount(int position) {
+        int day = countedDays[position];
+        courseCounts[day][courseKeys[position]]--;
+        courseSemesterCounts[day][courseSemesterKeys[position]]--;
+        countedDays[position] = -1;
+    }
+
+    /**
+     * Checks if there is an exam of the same course on a day, not having the provided one as round partner.
+     * @param exam The exam that is evaluated.
+     * @param day The index of the day in the calendar.
+     * @return True if such an exam is scheduled on {@code day}, false otherwise.
+     */
+    public boolean hasCourseCollision(Exam exam, int day) {
+        int position = positions.get(exam);
+        int count = courseCounts[day][courseKeys[position]];
+        for (int lister: partnerListers[position]) {
+            if (count == 0) {
+                break;
+            }
+            if (countedDays[lister] == day && courseKeys[lister] == courseKeys[position]) {
+                count--;
+            }
+        }
+        return count > 0;
+    }
+
+    /**
+     * Checks if there is an exam of the same course and semester on a day.
+     * @param exam The exam that is evaluated.
+     * @param day The index of the day in the calendar.
+     * @return True if such an exam is scheduled on {@code day}, false otherwise.
+     */
+    public boolean hasCourseSemesterCollision(Exam exam, int day) {
+        int position = positions.get(exam);
+        return courseSemesterCounts[day][courseSemesterKeys[position]] > 0;
+    }
+
+    /**
+     * Returns the index of a date in the calendar.
+     * @param date The date whose index is wanted.
+     * @return The index of {@code date}, -1 if it is not a calendar day.
+     */
+    public int getDayIndex(LocalDate date) {
+        return dateTimeConfigurer.getDayIndex(date);
+    }
+}
@@ -5,7 +5,8 @@ import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.entities.Exam;
 
 import java.time.LocalDate;
-import java.util.*;
+import java.util.BitSet;
+import java.util.List;
 
 /**
  * This is a {@link HardConstraint} that
@@ -25,23 +26,10 @@ public class IsolateCourseOnDayConstraint extends AbstractHardConstraint {
     public final static String CONSTRICTION_ID = "ICD";
 
     /**
-     * Data structure containing the current state of classified exams to compare the courses when scheduling new exams.
-     *
-     * <p>
-     * The key is a day of the calendar, whereas the value is a list containing the courses of the exams currently scheduled
-     * for that day.
-     */
-    private static Hashtable<LocalDate, List<Integer>> availabilities;
-
-    /**
-     * Data structure containing the current state of classified exams to compare the courses and semesters
-     * when scheduling new exams.
-     *
-     * <p>
-     * The key is a day of the calendar, whereas the value is a list containing the exans currently scheduled
-     * for that day.
+     * Counters of the courses and semesters of the classified exams on each day, used when scheduling new exams.
+     * It is shared by all the instances of this constraint of the same schedule.
      */
-    private static Hashtable<LocalDate, List<Exam>> availabilitiesRelaxed;
+    private final CourseDayAvailabilities availabilities;
 
     /**
      * The exam to which this {@code HardConstraint} instance is linked.
@@ -51,61 +39,19 @@ public class IsolateCourseOnDayConstraint extends AbstractHardConstraint {
     /**
      * Default constructor for the class.
      * @param exam The exam to which this {@code HardConstraint} instance is linked.
+     * @param availabilities The counters of the exams currently scheduled on each day of the schedule {@code exam}
+     *                       belongs to.
      */
-    public IsolateCourseOnDayConstraint(Exam exam) {
+    public IsolateCourseOnDayConstraint(Exam exam, CourseDayAvailabilities availabilities) {
         this.exam = exam;
-    }
-
-    /**
-     * Sets the data structures {@code availabilities} and {@code availabilitiesRelaxed} to their default state.
-     * @param calendarDays The list of days in which exams can be places.
-     * @param preScheduledExams The list of pre scheduled exams.
-     */
-    public static void resetAvailabilities(List<LocalDate> calendarDays, List<Exam> preScheduledExams) {
-        availabilities = new Hashtable<>();
-        availabilitiesRelaxed = new Hashtable<>();
-
-        for (LocalDate day: calendarDays) {
-            availabilities.put(day, new ArrayList<>());
-            availabilitiesRelaxed.put(day, new ArrayList<>());
-        }
-
-        for (Exam exam: preScheduledExams) {
-            availabilities.get(exam.getDate()).add(exam.getCourse());
-            availabilitiesRelaxed.get(exam.getDate()).add(exam);
-        }
-
-    }
-
-    /**
-     * Adds the data of an exam to the data structures when it was scheduled.
-     * @param date The day in which the exam was scheduled.
-     * @param examToAdd The exam that was scheduled.
-     */
-    public static void addCourseToDate(LocalDate date, Exam examToAdd){
-        availabilities.get(date).add(examToAdd.getCourse());
-        availabilitiesRelaxed.get(date).add(examToAdd);
-    }
-
-    /**
-     * Removes the data of an exam to the data structures when it was unscheduled.
-     * @param date The day in which the exam was unscheduled.
-     * @param examToRemove The exam that was unscheduled.
-     */
-    public static void removeCourseFromDate(LocalDate date, Exam examToRemove) {
-        availabilities.get(date).remove(examToRemove.getCourse());
-        availabilitiesRelaxed.get(date).remove(examToRemove);
+        this.availabilities = availabilities;
     }
 
     @Override
     public boolean isFulfilled() {
         if (exam.getDate() != null) {
-            for (Exam ex: availabilitiesRelaxed.get(exam.getDate())) {
-                if (ex.getCourse().equals(exam.getCourse()) && ! ex.getRoundPartners().contains(exam.getId())){
-                    return false;
-                }
-            }
-            //return ! availabilities.get(exam.getDate()).contains(exam.getCourse());
+            int day = availabilities.getDayIndex(exam.getDate());
+            return day < 0 || ! availabilities.hasCourseCollision(exam, day);
         }
         return true;
 
@@ -116,51 +62,42 @@ public class IsolateCourseOnDayConstraint extends AbstractHardConstraint {
         return null;
     }
 
-    @Override
-    public Set<LocalDate> filterViableDays(Set<LocalDate> days, Exam examToCheck) {
-        Set<LocalDate> validDates = super.filterViableDays(days, examToCheck);
-
-        if (days.size()>0 && validDates.size() == 0){
-            return filterViableDaysRelaxed(days, examToCheck);
-        }
-        return validDates;
-    }
-
     /**
-     * Gives the set of days that this hard constraint allows the exam to be placed in.
-     * @param days The current set of available days.
-     * @param examToCheck The exam that is evaluated.
-     * @return A subset of {@code days} in whichthe exam can be placed.
+     * Clears the days on which there is already an exam of the same course, unless it has the exam as round partner.
+     *
+     * <p>
+     * If that leaves no day, the relaxed version is used, which only clears the days with an exam of the same course
+     * and semester. The bits of {@code days} must refer to the calendar of the {@code DateTimeConfigurer} of the
+     * schedule.
+     * @param days The mask of possible days that we want to check. It is modified in place.
+     * @param calendar The sorted calendar days, to which the bits of {@code days} refer.
+     * @param examToCheck The exam that will be currently in process of scheduling.
      */
-    private Set<LocalDate> filterViableDaysRelaxed(Set<LocalDate> days, Exam examToCheck) {
-        Set<LocalDate> validDates = new HashSet<>();
-        for (LocalDate day: days) {
-            LocalDate prevDate = examToCheck.getDate();
-            examToCheck.setDate(day);
-            if (isFulfilledRelaxed()){
-                validDates.add(day);
+    @Override
+    public void filterViableDays(BitSet days, List<LocalDate> calendar, Exam examToCheck) {
+        BitSet initialDays = (BitSet) days.clone();
+        for (int day = days.nextSetBit(0); day >= 0; day = days.nextSetBit(day + 1)) {
+            if (availabilities.hasCourseCollision(exam, day)) {
+                days.clear(day);
             }
-            examToCheck.setDate(prevDate);
         }
-        return validDates;
 
+        if (! initialDays.isEmpty() && days.isEmpty()){
+            days.or(initialDays);
+            filterViableDaysRelaxed(days);
+        }
     }
 
     /**
-     * Relaxed version of {@code filterViableDays} in which the semester is also checked.
-     * @return True if there is no other exam with same course and semester. False otherwise.
+     * Clears the days that this hard constraint does not allow the exam to be placed in, when relaxed.
+     * @param days The current mask of available days. It is modified in place.
      */
-    private boolean isFulfilledRelaxed() {
-        if (exam.getDate() != null) {
-            for (Exam examScheduled : availabilitiesRelaxed.get(exam.getDate())) {
-                if (examScheduled.getCourse().equals(exam.getCourse()) &&
-                        examScheduled.getSemester() == exam.getSemester()) {
-                    return false;
-                }
+    private void filterViableDaysRelaxed(BitSet days) {
+        for (int day = days.nextSetBit(0); day >= 0; day = days.nextSetBit(day + 1)) {
+            if (availabilities.hasCourseSemesterCollision(exam, day)){
+                days.clear(day);
             }
         }
-        return true;
     }
 
-
 }
@@ -27,4 +27,9 @@ public class HardifiedUserConstraint extends AbstractHardConstraint {
     public boolean isFulfilled() {
         return userConstraint.isFulfilled();
     }
+
+    @Override
+    public boolean isStatic() {
+        return userConstraint.dependsOnlyOnOwnDate();
+    }
 }
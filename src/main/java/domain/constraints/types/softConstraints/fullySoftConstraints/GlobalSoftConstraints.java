@@ -0,0 +1,240 @@
+package domain.constraints.types.softConstraints.fullySoftConstraints;
+
+import domain.configuration.DateTimeConfigurer;
+import domain.constraints.counter.ConstraintCounter;
+import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.entities.Exam;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * This evaluates the soft constraints that depend on the whole schedule, {@link UnscheduledExamsConstraint},
+ * {@link SameCourseDifferentDayConstraint}, {@link RestingIntervalPenalization} and
+ * {@link NumericalComplexityPenalization}, with a single pass over the exams.
+ *
+ * <p>
+ * The results are stored in the constraint instances, and then they are counted as if each one had been checked on
+ * its own, so any {@code ConstraintCounter} gets the same values. All the working memory is allocated once, so it is
+ * meant to be used by a single thread, as the {@link domain.ExamsSchedule} that owns it.
+ */
+public class GlobalSoftConstraints {
+
+    /**
+     * Exams of the schedule.
+     */
+    private final Exam[] exams;
+
+    /**
+     * Configurer that holds the calendar and the resting interval.
+     */
+    private final DateTimeConfigurer dateTimeConfigurer;
+
+    /**
+     * The {@code UnscheduledExamsConstraint} of the schedule.
+     */
+    private final UnscheduledExamsConstraint unscheduledExamsConstraint;
+
+    /**
+     * The {@code SameCourseDifferentDayConstraint} of the schedule.
+     */
+    private final SameCourseDifferentDayConstraint sameCourseDifferentDayConstraint;
+
+    /**
+     * The {@code RestingIntervalPenalization} of the schedule.
+     */
+    private final RestingIntervalPenalization restingIntervalPenalization;
+
+    /**
+     * The {@code NumericalComplexityPenalization} of the schedule.
+     */
+    private final NumericalComplexityPenalization numericalComplexityPenalization;
+
+    /**
+     * Index of the course of each exam in {@code courseDayStamps}, -1 for the exams of course 0, which are not checked
+     * by {@code SameCourseDifferentDayConstraint}.
+     */
+    private final int[] courseKeys;
+
+    /**
+     * Last evaluation in which an exam of each course was found on each day, indexed by course key and day index. The
+     * last position of each course stands for the exams without date.
+     */
+    private final int[][] courseDayStamps;
+
+    /**
+     * Courses and days found in the current evaluation for the dates that are not in the calendar.
+     */
+    private final HashSet<Long> courseDaysOutOfCalendar;
+
+    /**
+     * Number of the current evaluation.
+     */
+    private int stamp;
+
+    /**
+     * Index of the numerical complexity group of each exam, -1 if it has no complexity.
+     */
+    private final int[] complexityGroups;
+
+    /**
+     * Epoch days of the scheduled exams of each numerical complexity group.
+     */
+    private final long[][] groupDays;
+
+    /**
+     * Number of valid positions of each array of {@code groupDays}.
+     */
+    private final int[] groupSizes;
+
+    /**
+     * Scratch array for the number of exams on each day of a complexity group.
+     */
+    private final int[] dayCounts;
+
+    /**
+     * Constructor for the class.
+     * @param exams The exams of the schedule.
+     * @param dateTimeConfigurer The configurer that holds the calendar and the resting interval.
+     * @param unscheduledExamsConstraint The {@code UnscheduledExamsConstraint} of the schedule.
+     * @param sameCourseDifferentDayConstraint The {@code SameCourseDifferentDayConstraint} of the schedule.
+     * @param restingIntervalPenalization The {@code RestingIntervalPenalization} of the schedule.
+     * @param numericalComplexityPenalization The {@code NumericalComplexityPenalization} of the schedule.
+     */
+    public GlobalSoftConstraints(List<Exam> exams, DateTimeConfigurer dateTimeConfigurer,
+                                 UnscheduledExamsConstraint unscheduledExamsConstraint,
+                                 SameCourseDifferentDayConstraint sameCourseDifferentDayConstraint,
+                                 RestingIntervalPenalization restingIntervalPenalization,
+                                 NumericalComplexityPenalization numericalComplexityPenalization) {
+        this.exams = exams.toArray(new Exam[0]);
+        this.dateTimeConfigurer = dateTimeConfigurer;
+        this.unscheduledExamsConstraint = unscheduledExamsConstraint;
+        this.sameCourseDifferentDayConstraint = sameCourseDifferentDayConstraint;
+        this.restingIntervalPenalization = restingIntervalPenalization;
+        this.numericalComplexityPenalization = numericalComplexityPenalization;
+
+        this.courseKeys = new int[this.exams.length];
+        HashMap<Integer, Integer> courses = new HashMap<>();
+        for (int i = 0; i < this.exams.length; i++) {
+            int course = this.exams[i].getCourse();
+            courseKeys[i] = course > 0 ? courses.computeIfAbsent(course, (key) -> courses.size()) : -1;
+        }
+        this.courseDayStamps = new int[courses.size()][dateTimeConfigurer.getCalendarDays().size() + 1];
+        this.courseDaysOutOfCalendar = new HashSet<>();
+
+        Exam[][] groups = numericalComplexityPenalization.getGroups();
+        IdentityHashMap<Exam, Integer> groupOfExam = new IdentityHashMap<>();
+        this.groupDays = new long[groups.length][];
+        this.groupSizes = new int[groups.length];
+        int largestGroup = 0;
+        for (int g = 0; g < groups.length; g++) {
+            for (Exam exam: groups[g]) {
+                groupOfExam.put(exam, g);
+            }
+            groupDays[g] = new long[groups[g].length];
+            largestGroup = Math.max(largestGroup, groups[g].length);
+        }
+        this.complexityGroups = new int[this.exams.length];
+        for (int i = 0; i < this.exams.length; i++) {
+            complexityGroups[i] = groupOfExam.getOrDefault(this.exams[i], -1);
+        }
+        this.dayCounts = new int[largestGroup];
+    }
+
+    /**
+     * Checks whether a soft constraint is evaluated by this.
+     * @param constraint The soft constraint.
+     * @return True if {@code constraint} is one of the constraints evaluated by this, false otherwise.
+     */
+    public boolean evaluates(SoftConstraint constraint) {
+        return constraint == unscheduledExamsConstraint || constraint == sameCourseDifferentDayConstraint
+                || constraint == restingIntervalPenalization || constraint == numericalComplexityPenalization;
+    }
+
+    /**
+     * Evaluates the constraints over the current schedule and counts them.
+     * @param counter The constraint counter instance that will be used for the checking of the soft constraints.
+     */
+    public void checkConstraints(ConstraintCounter counter) {
+        nextStamp();
+        courseDaysOutOfCalendar.clear();
+        Arrays.fill(groupSizes, 0);
+
+        int unscheduled = 0;
+        int repeatedCourseDays = 0;
+        long restingSeconds = 0;
+
+        for (int i = 0; i < exams.length; i++) {
+            Exam exam = exams[i];
+            LocalDate date = exam.getDate();
+
+            if (! exam.isScheduled()) {
+                unscheduled++;
+            }
+
+            restingSeconds += RestingIntervalPenalization.restingSecondsOf(exam, dateTimeConfigurer);
+
+            if (courseKeys[i] >= 0 && ! markCourseDay(courseKeys[i], date)) {
+                repeatedCourseDays++;
+            }
+
+            int group = complexityGroups[i];
+            if (group >= 0 && date != null) {
+                groupDays[group][groupSizes[group]++] = date.toEpochDay();
+            }
+        }
+
+        int[] complexities = numericalComplexityPenalization.getComplexities();
+        double accumulator = 0;
+        for (int g = 0; g < groupDays.length; g++) {
+            accumulator += NumericalComplexityPenalization.accumulate(complexities[g], groupDays[g], groupSizes[g],
+                    dayCounts);
+        }
+
+        for (int i = 0; i < unscheduled; i++) {
+            counter.count(unscheduledExamsConstraint);
+        }
+        sameCourseDifferentDayConstraint.setOccurrences(repeatedCourseDays);
+        counter.count(sameCourseDifferentDayConstraint);
+        restingIntervalPenalization.setSeconds(restingSeconds);
+        counter.count(restingIntervalPenalization);
+        numericalComplexityPenalization.setAccumulator(accumulator);
+        counter.count(numericalComplexityPenalization);
+    }
+
+    /**
+     * Marks that there is an exam of a course on a date in the current evaluation.
+     * @param courseKey The key of the course.
+     * @param date The date of the exam, null if it is not scheduled.
+     * @return True if there was no exam of the course on {@code date} yet, false otherwise.
+     */
+    private boolean markCourseDay(int courseKey, LocalDate date) {
+        int[] stamps = courseDayStamps[courseKey];
+        int day = date == null ? stamps.length - 1 : dateTimeConfigurer.getDayIndex(date);
+        if (day < 0) {
+            return courseDaysOutOfCalendar.add(((long) courseKey << 32) | (date.toEpochDay() & 0xFFFFFFFFL));
+        }
+        if (stamps[day] == stamp) {
+            return false;
+        }
+        stamps[day] = stamp;
+        return true;
+    }
+
+    /**
+     * Moves to the next evaluation, so that the stamps of the previous ones are no longer valid.
+     */
+    private void nextStamp() {
+        if (stamp == Integer.MAX_VALUE) {
+            for (int[] stamps: courseDayStamps) {
+                Arrays.fill(stamps, 0);
+            }
+            stamp = 0;
+        }
+        stamp++;
+    }
+}
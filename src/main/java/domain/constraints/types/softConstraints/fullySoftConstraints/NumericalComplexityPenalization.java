@@ -4,12 +4,11 @@ import domain.constraints.counter.ConstraintCounter;
 import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.entities.Exam;
 
-import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * This tries to spread in the calendar exams of the same complexity.
@@ -28,9 +27,24 @@ public class NumericalComplexityPenalization implements SoftConstraint {
 
 
     /**
-     * List of {@link Exam} to check the schedule.
+     * Numerical complexity of each group of exams. Complexities of 0 are ignored.
      */
-    private final List<Exam> exams;
+    private final int[] complexities;
+
+    /**
+     * Exams of each complexity of {@code complexities}, in the order of the exam list.
+     */
+    private final Exam[][] groups;
+
+    /**
+     * Scratch array for the sorted epoch days of the scheduled exams of a group.
+     */
+    private final long[] days;
+
+    /**
+     * Scratch array for the number of exams on each distinct day of {@code days}.
+     */
+    private final int[] dayCounts;
 
     /**
      * Value of the penalization.
@@ -41,7 +55,19 @@ public class NumericalComplexityPenalization implements SoftConstraint {
      * @param exams List of {@link Exam} to check the schedule.
      */
     public NumericalComplexityPenalization(List<Exam> exams) {
-        this.exams = exams;
+        HashMap<Integer, List<Exam>> examsByComplexity = retrieveExamsByNC(exams);
+        this.complexities = new int[examsByComplexity.size()];
+        this.groups = new Exam[examsByComplexity.size()][];
+        int index = 0;
+        int largestGroup = 0;
+        for (Map.Entry<Integer, List<Exam>> entry: examsByComplexity.entrySet()) {
+            complexities[index] = entry.getKey();
+            groups[index] = entry.getValue().toArray(new Exam[0]);
+            largestGroup = Math.max(largestGroup, groups[index].length);
+            index++;
+        }
+        this.days = new long[largestGroup];
+        this.dayCounts = new int[largestGroup];
     }
 
     @Override
@@ -51,16 +77,9 @@ public class NumericalComplexityPenalization implements SoftConstraint {
 
     @Override
     public void checkConstraint(ConstraintCounter counter) {
-        HashMap<Integer, List<Exam>> examsOrderedByComplexity = retrieveExamsByNC();
-
         accumulator = 0;
-        for (Map.Entry<Integer, List<Exam>> entry: examsOrderedByComplexity.entrySet()) {
-            List<Exam> currentList = entry.getValue();
-            for (int i = 0; i < currentList.size(); i++) {
-                for (int j = i; j < currentList.size(); j++) {
-                    accumulator += accumulate(entry.getKey(), currentList.get(i), currentList.get(j));
-                }
-            }
+        for (int i = 0; i < groups.length; i++) {
+            accumulator += accumulate(complexities[i], groups[i]);
         }
 
         counter.count(this);
@@ -76,25 +95,86 @@ public class NumericalComplexityPenalization implements SoftConstraint {
     }
 
     /**
-     * Provides the penalization value (fitness value) corresponding to the two exams passed
-     * as parameter considering the complexity.
+     * Sets the value of the penalization, when the constraint is evaluated by {@link GlobalSoftConstraints}.
+     * @param accumulator The value of the penalization.
+     */
+    void setAccumulator(double accumulator) {
+        this.accumulator = accumulator;
+    }
+
+    /**
+     * Returns the numerical complexity of each group of exams.
+     * @return The complexities, in the same order as {@link #getGroups()}.
+     */
+    int[] getComplexities() {
+        return complexities;
+    }
+
+    /**
+     * Returns the exams of each numerical complexity.
+     * @return The groups of exams, in the same order as {@link #getComplexities()}.
+     */
+    Exam[][] getGroups() {
+        return groups;
+    }
+
+    /**
+     * Provides the penalization value (fitness value) corresponding to all the pairs of scheduled exams of a group,
+     * including each exam with itself, considering the complexity.
      *
      * @param complexity Complexity of the exams.
-     * @param exam First exam.
-     * @param exam1 Second exam.
-     * @return Value of the penalization for the fitness corresponding to the closeness of the provided exams schedule.
+     * @param group The exams of that complexity.
+     * @return Value of the penalization for the fitness corresponding to the closeness of the exams of the group.
      */
-    private double accumulate(Integer complexity, Exam exam, Exam exam1) {
-        if (exam.getDate() == null || exam1.getDate() == null) {
-            return 0;
+    private double accumulate(int complexity, Exam[] group) {
+        int scheduled = 0;
+        for (Exam exam: group) {
+            if (exam.getDate() != null) {
+                days[scheduled++] = exam.getDate().toEpochDay();
+            }
         }
-        double distanceDays = Duration.between(exam.getDate().atStartOfDay(), exam1.getDate().atStartOfDay()).abs().toDays();
-        if (distanceDays == 0) {
-            return Math.pow(complexity,2);
+        return accumulate(complexity, days, scheduled, dayCounts);
+    }
+
+    /**
+     * Provides the penalization value corresponding to the days of the scheduled exams of a group.
+     *
+     * <p>
+     * A pair of exams on the same day adds the square of the complexity, and a pair of exams on different days adds the
+     * complexity divided by their distance in days. The exams are counted by day, so the pairs are computed from the
+     * number of exams on each pair of days instead of one by one.
+     *
+     * @param complexity Complexity of the exams.
+     * @param days The epoch days of the scheduled exams of the group. It is sorted and overwritten.
+     * @param scheduled Number of valid positions of {@code days}.
+     * @param dayCounts Scratch array at least as long as {@code scheduled}.
+     * @return Value of the penalization for the fitness corresponding to the closeness of the exams of the group.
+     */
+    static double accumulate(int complexity, long[] days, int scheduled, int[] dayCounts) {
+        Arrays.sort(days, 0, scheduled);
+
+        int distinctDays = 0;
+        for (int i = 0; i < scheduled; i++) {
+            if (distinctDays > 0 && days[distinctDays - 1] == days[i]) {
+                dayCounts[distinctDays - 1]++;
+            }
+            else {
+                days[distinctDays] = days[i];
+                dayCounts[distinctDays] = 1;
+                distinctDays++;
+            }
         }
-        else{
-            return complexity/distanceDays;
+
+        double penalization = 0;
+        for (int a = 0; a < distinctDays; a++) {
+            long sameDayPairs = (long) dayCounts[a] * (dayCounts[a] + 1) / 2;
+            penalization += sameDayPairs * Math.pow(complexity, 2);
+            for (int b = a + 1; b < distinctDays; b++) {
+                double distanceDays = days[b] - days[a];
+                penalization += (long) dayCounts[a] * dayCounts[b] * (complexity / distanceDays);
+            }
         }
+        return penalization;
     }
 
     /**
@@ -103,14 +183,15 @@ public class NumericalComplexityPenalization implements SoftConstraint {
      * <p>
      * Numerical complexities of 0 are ignored.
      *
+     * @param exams List of {@link Exam} to check the schedule.
      * @return A HashMap with the complexities as keys, and a list of the exams with such complexity as value.
      */
-    private HashMap<Integer, List<Exam>> retrieveExamsByNC() {
-        Set<Integer> cnValues = exams.stream().map(Exam::getCn).collect(Collectors.toSet());
-        cnValues.remove(0);
+    private static HashMap<Integer, List<Exam>> retrieveExamsByNC(List<Exam> exams) {
         HashMap<Integer, List<Exam>> result = new HashMap<>();
-        for (Integer cnValue: cnValues) {
-            result.put(cnValue, exams.stream().filter((ex) -> ex.getCn() == cnValue).collect(Collectors.toList()));
+        for (Exam exam: exams) {
+            if (exam.getCn() != 0) {
+                result.computeIfAbsent(exam.getCn(), (cn) -> new ArrayList<>()).add(exam);
+            }
         }
         return result;
     }
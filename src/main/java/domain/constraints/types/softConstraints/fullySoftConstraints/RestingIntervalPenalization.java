@@ -4,8 +4,8 @@ import domain.constraints.counter.ConstraintCounter;
 import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.entities.Exam;
 import domain.configuration.Configurer;
+import domain.configuration.DateTimeConfigurer;
 
-import java.time.Duration;
 import java.util.List;
 
 /**
@@ -34,20 +34,19 @@ public class RestingIntervalPenalization implements SoftConstraint {
     private final Configurer configurer;
 
     /**
-     * Amount of time that we have used from the resting interval.
+     * Amount of time that we have used from the resting interval, in seconds.
      */
-    private long minutes;
-
-    private Duration dur;
+    private long seconds;
 
     /**
      * Constructor for the class
      * @param exams List of {@link Exam} to check the schedule.
+     * @param configurer The configurer that holds the resting interval.
      */
     public RestingIntervalPenalization(List<Exam> exams, Configurer configurer) {
         this.exams = exams;
         this.configurer = configurer;
-        this.minutes = -1;
+        this.seconds = -1;
     }
 
 
@@ -58,40 +57,51 @@ public class RestingIntervalPenalization implements SoftConstraint {
 
     @Override
     public void checkConstraint(ConstraintCounter counter) {
-        minutes = 0;
-        dur = Duration.ZERO;
+        DateTimeConfigurer dateTimeConfigurer = configurer.getDateTimeConfigurer();
+        seconds = 0;
         for (Exam exam: exams) {
-            if (! exam.isScheduled()) { continue;}
+            seconds += restingSecondsOf(exam, dateTimeConfigurer);
+        }
 
-            if (checkProhibitedInterval(exam)) {
-                dur = dur.plus(Duration.between(configurer.getDateTimeConfigurer().getRestingIntervalInitialHour(),
-                        exam.getFinishingHourWithoutExtraTime()));
-            }
-            else{
+        counter.count(this);
 
-                if (exam.getInitialHour().isBefore(configurer.getDateTimeConfigurer().getRestingIntervalInitialHour())
-                && (exam.getFinishingHourWithoutExtraTime().equals(configurer.getDateTimeConfigurer().getFinishingHourRestingInterval())
-                || exam.getFinishingHourWithoutExtraTime().isAfter(configurer.getDateTimeConfigurer().getFinishingHourRestingInterval()))) {
 
-                    dur = dur.plus(Duration.between(configurer.getDateTimeConfigurer().getRestingIntervalInitialHour(),
-                            configurer.getDateTimeConfigurer().getFinishingHourRestingInterval()));
+    }
 
-                }
-            }
+    /**
+     * Computes the time of the resting interval used by an exam.
+     *
+     * <p>
+     * If the exam, without its extra time, ends in the resting interval, the time between the start of the interval
+     * and its end is used. If it starts before the interval and ends after it, the whole interval is used.
+     * @param exam The exam to be checked.
+     * @param dateTimeConfigurer The configurer that holds the resting interval.
+     * @return The seconds of the resting interval used by {@code exam}. 0 if it is not scheduled.
+     */
+    static long restingSecondsOf(Exam exam, DateTimeConfigurer dateTimeConfigurer) {
+        if (! exam.isScheduled()) {
+            return 0;
         }
+        int initialSecond = exam.getStartSecondOfDay();
+        int finishingSecond = Math.floorMod(initialSecond + (int) exam.getDuration().getSeconds(), Exam.SECONDS_PER_DAY);
 
-        counter.count(this);
-
-
+        if (dateTimeConfigurer.isSecondInRestingInterval(finishingSecond)) {
+            return finishingSecond - dateTimeConfigurer.getRestingIntervalInitialSecond();
+        }
+        if (initialSecond < dateTimeConfigurer.getRestingIntervalInitialSecond()
+                && finishingSecond >= dateTimeConfigurer.getFinishingSecondRestingInterval()) {
+            return dateTimeConfigurer.getFinishingSecondRestingInterval()
+                    - dateTimeConfigurer.getRestingIntervalInitialSecond();
+        }
+        return 0;
     }
 
     /**
-     * Checks if an exam's ending hour is in the resting interval
-     * @param exam The exam whose finishing hour will be checked
-     * @return True if the exam ends on the resting interval. False otherwise.
+     * Sets the time used from the resting interval, when the constraint is evaluated by {@link GlobalSoftConstraints}.
+     * @param seconds The seconds of the resting interval used by all the exams.
      */
-    private boolean checkProhibitedInterval(Exam exam) {
-        return configurer.getDateTimeConfigurer().isHourInRestingInterval(exam.getFinishingHourWithoutExtraTime());
+    void setSeconds(long seconds) {
+        this.seconds = seconds;
     }
 
     /**
@@ -99,7 +109,7 @@ public class RestingIntervalPenalization implements SoftConstraint {
      * @return the number of minutes used in the resting interval by all the exams.
      */
     public long getMinutes() {
-        if (minutes == -1) throw new IllegalStateException("It is need to call checkConstraint at least once before calling this method..");
-        return dur.toMinutes();
+        if (seconds == -1) throw new IllegalStateException("It is need to call checkConstraint at least once before calling this method..");
+        return seconds / 60;
     }
 }
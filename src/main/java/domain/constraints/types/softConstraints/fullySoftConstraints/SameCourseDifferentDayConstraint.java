@@ -5,13 +5,17 @@ import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.entities.Exam;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * This represents a constraint that states that the same course exams should take place on different days.
+ *
+ * <p>
+ * Each exam whose date is already taken by another exam of its course counts once. Unscheduled exams are treated as
+ * if they shared a date. Only courses from 1 on are considered, exams of course 0 are not part of any year.
  */
 public class SameCourseDifferentDayConstraint implements SoftConstraint {
 
@@ -42,28 +46,21 @@ public class SameCourseDifferentDayConstraint implements SoftConstraint {
     @Override
     public void checkConstraint(ConstraintCounter counter) {
         occurrences = 0;
-        for (int i = 1; i < 5; i++) {
-            occurrences += getExamsForCourse(exams, i);
+        HashMap<Integer, Set<LocalDate>> courseDates = new HashMap<>();
+        for (Exam exam: exams) {
+            if (exam.getCourse() > 0 && ! courseDates.computeIfAbsent(exam.getCourse(), (course) -> new HashSet<>()).add(exam.getDate())) {
+                occurrences++;
+            }
         }
         counter.count(this);
     }
 
     /**
-     * Returns for a given course how many dates are repeated mapping the exams to their dates.
-     * @param exams The schedule of {@link Exam}.
-     * @param course The course that we are currently checking
-     * @return The number of repeated dates for the given course.
+     * Sets the number of cases found, when the constraint is evaluated by {@link GlobalSoftConstraints}.
+     * @param occurrences The number of exams whose date is repeated among the exams of their course.
      */
-    private int getExamsForCourse(List<Exam> exams, int course) {
-        List<LocalDate> courseDates = new ArrayList<>();
-        for (Exam exam: exams) {
-            if (exam.getCourse() == course){
-                courseDates.add(exam.getDate());
-            }
-        }
-        Set<LocalDate> courseDatesSet = new HashSet<>(courseDates);
-
-        return courseDates.size() - courseDatesSet.size();
+    void setOccurrences(int occurrences) {
+        this.occurrences = occurrences;
     }
 
     /**
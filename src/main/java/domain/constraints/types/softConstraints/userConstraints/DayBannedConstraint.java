@@ -6,6 +6,8 @@ import domain.constraints.types.hardConstraints.hardUserConstraints.HardifiedUse
 import domain.entities.Exam;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * This states for an exam a date in which it cannot be placed.
@@ -59,6 +61,11 @@ public class DayBannedConstraint extends AbstractUserConstraint {
         return CONSTRICTION_ID;
     }
 
+    @Override
+    public boolean dependsOnlyOnOwnDate() {
+        return true;
+    }
+
     /**
      * Returns the {@code Exam} that has the constraint.
      * @return The {@code Exam} that has the constraint.
@@ -81,4 +88,13 @@ public class DayBannedConstraint extends AbstractUserConstraint {
         exam.addHardConstraint(hConstraint);
     }
 
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(exam);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new DayBannedConstraint(examMapping.apply(exam), dayBanned);
+    }
 }
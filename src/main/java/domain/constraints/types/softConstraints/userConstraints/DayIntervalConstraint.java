@@ -7,6 +7,7 @@ import domain.entities.Exam;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * This states for an exam an interval of dates in which the exam must be placed.
@@ -76,6 +77,11 @@ public class DayIntervalConstraint extends AbstractUserConstraint {
         return CONSTRICTION_ID;
     }
 
+    @Override
+    public boolean dependsOnlyOnOwnDate() {
+        return true;
+    }
+
     @Override
     public boolean isFulfilled() {
         if (exam.getDate() ==null){
@@ -121,4 +127,14 @@ public class DayIntervalConstraint extends AbstractUserConstraint {
         HardConstraint hConstraint = new HardifiedUserConstraint(this);
         exam.addHardConstraint(hConstraint);
     }
+
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(exam);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new DayIntervalConstraint(examMapping.apply(exam), intervalStart, intervalEnd, List.of());
+    }
 }
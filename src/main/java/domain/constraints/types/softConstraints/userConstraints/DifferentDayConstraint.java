@@ -5,6 +5,9 @@ import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.constraints.types.hardConstraints.hardUserConstraints.HardifiedUserConstraint;
 import domain.entities.Exam;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * This states for two exams that they cannot take place on the same day.
  */
@@ -85,4 +88,13 @@ public class DifferentDayConstraint extends AbstractUserConstraint {
         second.addHardConstraint(hConstraint);
     }
 
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(first, second);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new DifferentDayConstraint(examMapping.apply(first), examMapping.apply(second));
+    }
 }
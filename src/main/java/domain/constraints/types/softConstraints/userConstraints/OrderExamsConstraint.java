@@ -5,6 +5,9 @@ import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.constraints.types.hardConstraints.hardUserConstraints.HardifiedUserConstraint;
 import domain.entities.Exam;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * This states for two exams that one of them must be after the other.
  */
@@ -77,4 +80,14 @@ public class OrderExamsConstraint extends AbstractUserConstraint {
     public void countMe(ConstraintCounter counter) {
         counter.count(this);
     }
+
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(first, second);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new OrderExamsConstraint(examMapping.apply(first), examMapping.apply(second));
+    }
 }
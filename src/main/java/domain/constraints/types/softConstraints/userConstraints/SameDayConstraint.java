@@ -6,6 +6,9 @@ import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.constraints.types.hardConstraints.hardUserConstraints.HardifiedUserConstraint;
 import domain.entities.Exam;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * This will represent for a list of exams, that they must take place on the same day.
  */
@@ -86,4 +89,13 @@ public class SameDayConstraint extends AbstractUserConstraint {
         counter.count(this);
     }
 
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(first, second);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new SameDayConstraint(examMapping.apply(first), examMapping.apply(second));
+    }
 }
@@ -5,10 +5,12 @@ import domain.constraints.counter.ConstraintCounter;
 import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.constraints.types.hardConstraints.hardUserConstraints.HardifiedUserConstraint;
 import domain.entities.Exam;
+import domain.configuration.CalendarIndex;
 import domain.configuration.DateTimeConfigurer;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * This class represents the constraint by which two exams must have at least X number of days between their dates,
@@ -44,7 +46,7 @@ public class TimeDisplacementConstraint extends AbstractUserConstraint {
     /**
      * Calendar of available days for the {@code Exam} objects.
      */
-    private final List<LocalDate> calendar;
+    private final CalendarIndex calendar;
 
     /**
      * Constructor for the class.
@@ -54,6 +56,17 @@ public class TimeDisplacementConstraint extends AbstractUserConstraint {
      * @param calendar The calendar of possible dates. It is assumed that it is sorted.
      */
     public TimeDisplacementConstraint(Exam first, Exam second, long distanceInDays, List<LocalDate> calendar) {
+        this(first, second, distanceInDays, new CalendarIndex(calendar));
+    }
+
+    /**
+     * Constructor for the class.
+     * @param first {@link Exam} that must take place before than {@code second}.
+     * @param second {@link Exam} that must take place after than {@code first}.
+     * @param distanceInDays Days that must be between {@code first} and {@code second}.
+     * @param calendar The index of the calendar of possible dates.
+     */
+    public TimeDisplacementConstraint(Exam first, Exam second, long distanceInDays, CalendarIndex calendar) {
         this.first = first;
         this.second = second;
         this.distanceInDays = distanceInDays;
@@ -113,4 +126,15 @@ public class TimeDisplacementConstraint extends AbstractUserConstraint {
         first.addHardConstraint(hConstraint);
         second.addHardConstraint(hConstraint);
     }
+
+    @Override
+    public List<Exam> getInvolvedExams() {
+        return List.of(first, second);
+    }
+
+    @Override
+    public UserConstraint copyFor(Function<Exam, Exam> examMapping) {
+        return new TimeDisplacementConstraint(examMapping.apply(first), examMapping.apply(second), distanceInDays,
+                calendar);
+    }
 }
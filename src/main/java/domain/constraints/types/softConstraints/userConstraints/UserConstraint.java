@@ -1,9 +1,14 @@
 package domain.constraints.types.softConstraints.userConstraints;
 
+import domain.constraints.counter.ConstraintCounter;
 import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.entities.Exam;
 import greedyAlgorithm.ChromosomeDecoder;
 
+import java.util.List;
+import java.util.function.Function;
+
 /**
  * User constraints that can be specified as hard or weak.
  */
@@ -44,6 +49,40 @@ public interface UserConstraint extends SoftConstraint {
      */
     boolean wasHardified();
 
+    /**
+     * Returns the exams whose schedule the result of the constraint depends on.
+     * @return The list of {@code Exam} referenced by the constraint.
+     */
+    List<Exam> getInvolvedExams();
 
+    /**
+     * Calls the {@code ConstraintCounter} for this type of constraint, without evaluating it.
+     *
+     * <p>
+     * This is used when the constraint is known to be unfulfilled from a previous evaluation.
+     * @param counter The counter that the constraint will call to provide the data.
+     */
+    void countMe(ConstraintCounter counter);
+
+    /**
+     * Creates a copy of this constraint over other exams.
+     *
+     * <p>
+     * The copy is not hardified, even if this is, and it has no previous evaluation.
+     * @param examMapping Function that gives, for each exam referenced by this, the exam that the copy must reference.
+     * @return A new constraint of the same type and with the same parameters as this, over the mapped exams.
+     */
+    UserConstraint copyFor(Function<Exam, Exam> examMapping);
+
+    /**
+     * Indicates whether the constraint only depends on the date of a single exam.
+     *
+     * <p>
+     * If so, once hardified, the days it allows can be computed once instead of on every decoding.
+     * @return True if the result only depends on the date of the exam, false otherwise.
+     */
+    default boolean dependsOnlyOnOwnDate() {
+        return false;
+    }
 
 }
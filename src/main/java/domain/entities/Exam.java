@@ -25,6 +25,11 @@ import java.util.stream.Collectors;
  */
 public class Exam {
 
+    /**
+     * Number of seconds of a day.
+     */
+    public static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
     /**
      * Extra time to be added at the end of the exam.
      */
@@ -88,10 +93,24 @@ public class Exam {
     private LocalDate date;
 
     /**
-     * Time at which the exam will start.
+     * Time at which the exam will start, built from {@code startSecond} when it is requested.
      */
     private LocalTime initialHour;
 
+    /**
+     * Second of the day at which the exam will start, -1 if it is not scheduled.
+     *
+     * <p>
+     * This is the value used by the decoder and the collision checks, so that they do not create
+     * {@code LocalTime} instances.
+     */
+    private int startSecond = -1;
+
+    /**
+     * Seconds needed by the exam, including the extra time. It is -1 until it is computed.
+     */
+    private int chunkSeconds = -1;
+
     /**
      * Integer representing the complexity of the exam.
      */
@@ -108,6 +127,27 @@ public class Exam {
      */
     private final List<HardConstraint> hardConstraints;
 
+    /**
+     * Calendar for which {@code staticViableDays} was computed. Null if it was not computed yet.
+     */
+    private List<LocalDate> preparedCalendar;
+
+    /**
+     * Mask of the calendar days allowed by all the static {@code HardConstraint} of the exam.
+     */
+    private BitSet staticViableDays;
+
+    /**
+     * The {@code HardConstraint} that depend on the rest of the schedule, in the order they were added.
+     */
+    private List<HardConstraint> dynamicHardConstraints;
+
+    /**
+     * Position of {@code dynamicHardConstraints} at which the static constraints were found, and therefore at which
+     * {@code staticViableDays} is applied.
+     */
+    private int staticViableDaysPosition;
+
     /**
      * Round identifier to indicate if the round the exam belongs to.
      */
@@ -219,7 +259,7 @@ public class Exam {
         this(course, sem, code, acronym, subject, order, contentType, modalidad, alumnos, cn, id, roundId);
         this.alumnos = alumnos;
         this.date = date;
-        this.initialHour = initialHour;
+        setInitialHour(initialHour);
         this.extraTime = extraTime;
         this.duration = Duration.ofMinutes(duration);
     }
@@ -248,7 +288,7 @@ public class Exam {
      * @return the duration of the exam.
      */
     public Duration getDuration() {
-        return Duration.from(duration);
+        return duration;
     }
 
     /**
@@ -264,10 +304,21 @@ public class Exam {
      * @return the initial hour of the exam. Null if it was not scheduled.
      */
     public LocalTime getInitialHour() {
-        if (initialHour == null){
+        if (startSecond < 0){
             return null;
         }
-        return LocalTime.ofSecondOfDay(initialHour.toSecondOfDay());
+        if (initialHour == null) {
+            initialHour = LocalTime.ofSecondOfDay(startSecond);
+        }
+        return initialHour;
+    }
+
+    /**
+     * Returns the initial hour of the exam as a second of the day.
+     * @return the second of the day at which the exam starts. -1 if it was not scheduled.
+     */
+    public int getStartSecondOfDay() {
+        return startSecond;
     }
 
     /**
@@ -295,7 +346,7 @@ public class Exam {
     @Override
     public Exam clone() {
         return new Exam(course, sem, code, acronym, subject, order, contentType, modality, alumnos,
-                duration.toMinutes(), date, initialHour, extraTime, cn, id, roundId);
+                duration.toMinutes(), date, getInitialHour(), extraTime, cn, id, roundId);
     }
 
     /**
@@ -303,7 +354,7 @@ public class Exam {
      * @param excelHour Initial hour for the exam in excel hour format.
      */
     public void setHourFromExcel(double excelHour) {
-        this.initialHour = LocalTime.ofSecondOfDay((long) (excelHour * 3600 * 24));
+        setInitialHour(LocalTime.ofSecondOfDay((long) (excelHour * 3600 * 24)));
     }
 
     /**
@@ -321,7 +372,7 @@ public class Exam {
      * @return true if this is scheduled, false otherwise.
      */
     public boolean isScheduled() {
-        return getDate()!=null && getInitialHour() != null;
+        return getDate()!=null && startSecond >= 0;
     }
 
     /**
@@ -330,6 +381,7 @@ public class Exam {
     public void resetScheduling() {
         this.date = null;
         this.initialHour=null;
+        this.startSecond = -1;
     }
 
     /**
@@ -337,10 +389,21 @@ public class Exam {
      * @return the finishing hour of this. Null if this was not scheduled.
      */
     public LocalTime getFinishingHour() {
-        if (initialHour == null){
+        if (startSecond < 0){
             return null;
         }
-        return getInitialHour().plus(getDuration()).plus(getExtraTime());
+        return LocalTime.ofSecondOfDay(getFinishingSecondOfDay());
+    }
+
+    /**
+     * Gets the hour when this will end as a second of the day.
+     *
+     * <p>
+     * As with {@code LocalTime}, the result wraps around midnight.
+     * @return the second of the day at which this ends. Undefined if this was not scheduled.
+     */
+    public int getFinishingSecondOfDay() {
+        return Math.floorMod(startSecond + getChunkSeconds(), SECONDS_PER_DAY);
     }
 
     /**
@@ -351,7 +414,7 @@ public class Exam {
      * @return The finishing hour without considering the extra time.
      */
     public LocalTime getFinishingHourWithoutExtraTime() {
-        if (initialHour == null){
+        if (startSecond < 0){
             return null;
         }
         return getInitialHour().plus(getDuration());
@@ -365,12 +428,24 @@ public class Exam {
      * @return true if there will be a collision, false otherwise.
      */
     public boolean willCollideWith(LocalDate currentDate, LocalTime currentHour, Duration chunkOfTime) {
+        return willCollideWith(currentDate, currentHour.toSecondOfDay(), (int) chunkOfTime.getSeconds());
+    }
+
+    /**
+     * Checks wether the input parameters for an exam will provoke a collision with this.
+     * @param currentDate The date of the new scheduled exam.
+     * @param currentSecond The initial second of the day of the new scheduled exam.
+     * @param chunkSeconds Seconds needed for the exam.
+     * @return true if there will be a collision, false otherwise.
+     */
+    public boolean willCollideWith(LocalDate currentDate, int currentSecond, int chunkSeconds) {
         if (isScheduled()){
-            LocalTime endingCurrentTime = currentHour.plus(chunkOfTime);
-            return getDate().atStartOfDay().equals(currentDate.atStartOfDay()) &&
-                    (currentHour.equals(initialHour) || (currentHour.isAfter(initialHour)  ) && currentHour.isBefore(getFinishingHour())
+            int endingCurrentSecond = Math.floorMod(currentSecond + chunkSeconds, SECONDS_PER_DAY);
+            int finishingSecond = getFinishingSecondOfDay();
+            return getDate().equals(currentDate) &&
+                    (currentSecond == startSecond || currentSecond > startSecond && currentSecond < finishingSecond
                             ||
-                    endingCurrentTime.isAfter(initialHour) && (endingCurrentTime.isBefore(getFinishingHour()) || endingCurrentTime.equals(getFinishingHour())));
+                    endingCurrentSecond > startSecond && endingCurrentSecond <= finishingSecond);
         }
         else{
             return false;
@@ -385,7 +460,18 @@ public class Exam {
      */
     public void scheduleFor(LocalDate currentDate, LocalTime startingHour) {
         this.date = currentDate;
-        this.initialHour = startingHour;
+        setInitialHour(startingHour);
+    }
+
+    /**
+     * Schedules this for the provided date and second of the day.
+     * @param currentDate the new date for the exam.
+     * @param startingSecond the new initial second of the day for the exam.
+     */
+    public void scheduleFor(LocalDate currentDate, int startingSecond) {
+        this.date = currentDate;
+        this.startSecond = startingSecond;
+        this.initialHour = null;
     }
 
     /**
@@ -452,6 +538,7 @@ public class Exam {
      */
     public void setExtraTimeFromExcel(double excelExtraTime) {
         this.extraTime = Duration.ofMinutes(transformDuration(excelExtraTime));
+        this.chunkSeconds = -1;
     }
 
     /**
@@ -460,6 +547,7 @@ public class Exam {
      */
     public void setExtraTime(Duration extraTime) {
         this.extraTime = Duration.from(extraTime);
+        this.chunkSeconds = -1;
     }
 
     /**
@@ -481,12 +569,24 @@ public class Exam {
         return getDuration().plus(getExtraTime());
     }
 
+    /**
+     * Returns the minimum space needed in the timetable for the exam, in seconds.
+     * @return The total seconds consumed by the exam in the timetable.
+     */
+    public int getChunkSeconds() {
+        if (chunkSeconds < 0) {
+            chunkSeconds = (int) (getDuration().getSeconds() + getExtraTime().getSeconds());
+        }
+        return chunkSeconds;
+    }
+
     /**
      * Sets the initial hour of the exam to the one passed as parameter.
      * @param newInitialhour New value for the {@code initialHour}
      */
     public void setInitialHour(LocalTime newInitialhour) {
-        this.initialHour = newInitialhour;
+        this.initialHour = null;
+        this.startSecond = newInitialhour == null ? -1 : newInitialhour.toSecondOfDay();
     }
 
     /**
@@ -504,16 +604,59 @@ public class Exam {
      */
     public void addHardConstraint(HardConstraint hardConstraint) {
         this.hardConstraints.add(hardConstraint);
+        this.preparedCalendar = null;
     }
 
     /**
-     * Provides the set of days in which the exam can be placed according to its {@code HardConstraint}.
-     * @param days The set of available days to place the exam in.
-     * @return A subset of {@code days} where the exam can be placed.
+     * Computes the mask of days allowed by the static {@code HardConstraint}, so that they are not checked again on
+     * every call to {@code getViableDays}.
+     *
+     * <p>
+     * The static constraints only filter each day on its own, so applying all of them at the position of the first
+     * one gives the same days as applying them in order.
+     * @param calendar The sorted calendar days, to which the bits of the masks refer.
+     * @see HardConstraint#isStatic()
      */
-    public Set<LocalDate> getViableDays(Set<LocalDate> days) {
+    public void prepareViableDays(List<LocalDate> calendar) {
+        staticViableDays = new BitSet(calendar.size());
+        staticViableDays.set(0, calendar.size());
+        dynamicHardConstraints = new ArrayList<>();
+        staticViableDaysPosition = -1;
+
         for (HardConstraint hardConstraint: hardConstraints) {
-            days = hardConstraint.filterViableDays(days, this);
+            if (hardConstraint.isStatic()) {
+                hardConstraint.filterViableDays(staticViableDays, calendar, this);
+                if (staticViableDaysPosition < 0) {
+                    staticViableDaysPosition = dynamicHardConstraints.size();
+                }
+            }
+            else {
+                dynamicHardConstraints.add(hardConstraint);
+            }
+        }
+        preparedCalendar = calendar;
+    }
+
+    /**
+     * Provides the set of days in which the exam can be placed according to its {@code HardConstraint}.
+     * @param calendar The sorted calendar days, to which the bits of the returned mask refer.
+     * @return A mask of the days of {@code calendar} where the exam can be placed.
+     */
+    public BitSet getViableDays(List<LocalDate> calendar) {
+        if (preparedCalendar != calendar) {
+            prepareViableDays(calendar);
+        }
+
+        BitSet days = new BitSet(calendar.size());
+        days.set(0, calendar.size());
+        for (int i = 0; i < dynamicHardConstraints.size(); i++) {
+            if (i == staticViableDaysPosition) {
+                days.and(staticViableDays);
+            }
+            dynamicHardConstraints.get(i).filterViableDays(days, calendar, this);
+        }
+        if (staticViableDaysPosition >= dynamicHardConstraints.size()) {
+            days.and(staticViableDays);
         }
         return days;
     }
@@ -4,16 +4,16 @@ import domain.ExamsSchedule;
 import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.*;
 import domain.parsers.constraintsParserTools.*;
+import domain.parsers.excelReader.InputCell;
+import domain.parsers.excelReader.InputRow;
+import domain.parsers.excelReader.InputSheet;
+import domain.parsers.excelReader.InputWorkbook;
 import domain.configuration.Configurer;
 import logger.ConsoleLogger;
 import logger.dataGetter.StatisticalDataGetter;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -77,22 +77,19 @@ public class ConstraintParser {
 
     /**
      * Method to parse the {@code Constraint} objects from the Excel.
-     * @param filepath The input data Excel filepath.
+     * @param inputWorkbook The sheets of the input data Excel.
      * @param examsSchedule The current dataHandler instance being use
      * @return The {@code List} of {@code Constraint} parsed from the Excel.
      */
-    public List<SoftConstraint> parseConstraints(String filepath, ExamsSchedule examsSchedule) {
+    public List<SoftConstraint> parseConstraints(InputWorkbook inputWorkbook, ExamsSchedule examsSchedule) {
         List<SoftConstraint> constraints = new ArrayList<>();
         int i = 0;
-        //creating workbook instance that refers to .xls file
-        try (FileInputStream fis = new FileInputStream(filepath);
-             Workbook workbook = new XSSFWorkbook(fis)
-             ) {
-            Sheet sheet = workbook.getSheetAt(1);
+        try {
+            InputSheet sheet = inputWorkbook.getSheetAt(InputWorkbook.CONSTRAINTS_SHEET);
 
             ConsoleLogger.getConsoleLoggerInstance().logInfo("Parsing constraints...");
 
-            for (Row row : sheet) {
+            for (InputRow row : sheet) {
 
                 if (shouldBeJumped(row)) {
                     continue;
@@ -121,9 +118,7 @@ public class ConstraintParser {
 
             }
 
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Could not find input Excel file");
-        } catch (IOException | NullPointerException | NumberFormatException | IllegalStateException e) {
+        } catch (NullPointerException | NumberFormatException | IllegalStateException e) {
             throw new IllegalArgumentException("Could not parse input Excel file, constrains tab.");
         }
         ConsoleLogger.getConsoleLoggerInstance().logInfo("Constraints parsed: " + i);
@@ -135,7 +130,7 @@ public class ConstraintParser {
      * @param row The row that we are currently checking.
      * @return true if it should be jumped, false otherwise.
      */
-    private boolean shouldBeJumped(Row row) {
+    private boolean shouldBeJumped(InputRow row) {
         if (jumpLines > 0) {
             jumpLines--;
             return true;
@@ -144,10 +139,10 @@ public class ConstraintParser {
         return isEmptyRow(row);
     }
 
-    private boolean isEmptyRow(Row row) {
+    private boolean isEmptyRow(InputRow row) {
         for (int i = 0; i < 5; i++) {
             if (! (row.getCell(baseExcelColumn + i) == null ||
-                    row.getCell(baseExcelColumn + i).getCellType().equals(CellType.BLANK))) {
+                    row.getCell(baseExcelColumn + i).isBlank())) {
                 return false;
             }
         }
@@ -159,47 +154,47 @@ public class ConstraintParser {
      * @param constraintDescription The row with the constraint description
      * @param constraintHeaders The row with the constraint headers
      */
-    private void swapTool(Row constraintIdRow, Row constraintDescription, Row constraintHeaders) {
+    private void swapTool(InputRow constraintIdRow, InputRow constraintDescription, InputRow constraintHeaders) {
 
-        switch (constraintIdRow.getCell(baseExcelColumn).getStringCellValue()){
+        switch (constraintIdRow.getCell(baseExcelColumn).getStringValue()){
             case TimeDisplacementConstraint.CONSTRICTION_ID:
                 parserTool = new TimeDisplacementConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3, baseExcelColumn + 4}));
                 usedTools.put(TimeDisplacementConstraint.CONSTRICTION_ID, parserTool);
                 break;
             case SameDayConstraint.CONSTRICTION_ID:
                 parserTool = new SameDayConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3}));
                 usedTools.put(SameDayConstraint.CONSTRICTION_ID, parserTool);
                 break;
             case DifferentDayConstraint.CONSTRICTION_ID:
                 parserTool = new DifferentDayConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3}));
                 usedTools.put(DifferentDayConstraint.CONSTRICTION_ID, parserTool);
                 break;
             case OrderExamsConstraint.CONSTRICTION_ID:
                 parserTool = new OrderExamsConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3}));
                 usedTools.put(OrderExamsConstraint.CONSTRICTION_ID, parserTool);
                 break;
             case DayBannedConstraint.CONSTRICTION_ID:
                 parserTool = new DayBannedConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3}));
                 usedTools.put(DayBannedConstraint.CONSTRICTION_ID, parserTool);
                 break;
             case DayIntervalConstraint.CONSTRICTION_ID:
                 parserTool = new DayIntervalConstraintParserTool();
-                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringCellValue());
+                parserTool.setDescription(constraintDescription.getCell(baseExcelColumn).getStringValue());
                 parserTool.setHeaders(getHeaders(constraintHeaders, new int[]{baseExcelColumn, baseExcelColumn + 1
                         , baseExcelColumn + 2, baseExcelColumn + 3, baseExcelColumn + 4}));
                 usedTools.put(DayIntervalConstraint.CONSTRICTION_ID, parserTool);
@@ -218,10 +213,10 @@ public class ConstraintParser {
      * @param indexes An array containing the cell indexes of the headers to take.
      * @return An array with the extracted headers.
      */
-    private String[] getHeaders(Row row, int[] indexes) {
+    private String[] getHeaders(InputRow row, int[] indexes) {
         String[] result = new String[indexes.length];
         for (int i = 0; i < indexes.length; i++) {
-            result[i] = row.getCell(indexes[i]).getStringCellValue();
+            result[i] = row.getCell(indexes[i]).getStringValue();
         }
         return result;
     }
@@ -232,9 +227,9 @@ public class ConstraintParser {
      * @param examsSchedule Current dataHandler.
      * @return true if it is needed to change the tool, false otherwise.
      */
-    private boolean isAToolSwapNeeded(Cell cell, ExamsSchedule examsSchedule) {
+    private boolean isAToolSwapNeeded(InputCell cell, ExamsSchedule examsSchedule) {
         try {
-            String value = cell.getStringCellValue();
+            String value = cell.getStringValue();
             return examsSchedule.getConfigurer().existsConstraintID(value);
 
         } catch (RuntimeException e){
@@ -3,15 +3,14 @@ package domain.parsers;
 import domain.configuration.ExcelConfigurer;
 import domain.entities.Exam;
 import domain.configuration.Configurer;
+import domain.parsers.excelReader.InputCell;
+import domain.parsers.excelReader.InputRow;
+import domain.parsers.excelReader.InputSheet;
+import domain.parsers.excelReader.InputWorkbook;
 import logger.ConsoleLogger;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import utils.Utils;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -57,17 +56,15 @@ public class ExamParser {
 
     /**
      * Parsing method of the exams.
-     * @param filepath The input Excel file.
+     * @param inputWorkbook The sheets of the input Excel file.
      * @param configurer The configurer of the algorithm.
      * @return A {@code List} of parsed {@code Exam}
      */
-    public List<Exam> parseExams(String filepath, Configurer configurer) {
+    public List<Exam> parseExams(InputWorkbook inputWorkbook, Configurer configurer) {
         List<Exam> exams = new ArrayList<>();
-        try (FileInputStream fis = new FileInputStream(filepath);
-             Workbook workbook = new XSSFWorkbook(fis)
-        ) {
+        try {
 
-            Sheet sheet = workbook.getSheetAt(0);
+            InputSheet sheet = inputWorkbook.getSheetAt(InputWorkbook.EXAMS_SHEET);
 
             Map<Integer, List<String>> data = new HashMap<>();
 
@@ -75,7 +72,7 @@ public class ExamParser {
 
             ConsoleLogger.getConsoleLoggerInstance().logInfo("Parsing exams...");
 
-            for (Row row : sheet) {
+            for (InputRow row : sheet) {
                 if (! foundHeaderRow) {
                     foundHeaderRow = isHeaderRow(row, configurer.getExcelConfigurer());
                     headerRow = row.getRowNum();
@@ -98,9 +95,7 @@ public class ExamParser {
                         "the Excel ones.");
             }
 
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Could not find input Excel file");
-        } catch (IOException | NullPointerException e) {
+        } catch (NullPointerException e) {
             throw new IllegalArgumentException("Could not parse input Excel file");
         }
 
@@ -114,17 +109,25 @@ public class ExamParser {
         return exams;
     }
 
-    private boolean isHeaderRow(Row row, ExcelConfigurer excelConfigurer) {
-        if (row.getCell(0) == null || !row.getCell(0).getCellType().equals(CellType.STRING)){
+    /**
+     * Returns the rounds found by the last call to {@link #parseExams(InputWorkbook, Configurer)}.
+     * @return An unmodifiable map with the round identifiers as keys and the ids of the exams of each round as values.
+     */
+    public Map<String, List<Integer>> getRounds() {
+        return Collections.unmodifiableMap(rounds);
+    }
+
+    private boolean isHeaderRow(InputRow row, ExcelConfigurer excelConfigurer) {
+        if (row.getCell(0) == null || row.getCell(0).getValueType() != InputCell.ValueType.STRING){
             return false;
         }
         else{
-            return row.getCell(0).getStringCellValue().equals(excelConfigurer.getExamFirstHeader());
+            return row.getCell(0).getStringValue().equals(excelConfigurer.getExamFirstHeader());
         }
     }
 
 
-    private  Exam generateExam(Row row, Configurer configurer) {
+    private  Exam generateExam(InputRow row, Configurer configurer) {
         Exam exam;
         String round;
         try {
@@ -133,36 +136,36 @@ public class ExamParser {
                     "Error creating exam.");
             exam = new Exam(parseNumberCell(row, 0),
                     parseNumberCell(row, 1),
-                    row.getCell(2).getStringCellValue(),
-                    row.getCell(3).getStringCellValue(),
-                    row.getCell(4).getStringCellValue(),
+                    row.getCell(2).getStringValue(),
+                    row.getCell(3).getStringValue(),
+                    row.getCell(4).getStringValue(),
                     parseNumberCell(row, 5),
-                    row.getCell(6).getStringCellValue(),
-                    row.getCell(7).getStringCellValue(),
+                    row.getCell(6).getStringValue(),
+                    row.getCell(7).getStringValue(),
                     parseNumberCell(row, 8),
-                    row.getCell(9).getNumericCellValue(),
-                    (int) row.getCell(15).getNumericCellValue(),
+                    row.getCell(9).getNumericValue(),
+                    (int) row.getCell(15).getNumericValue(),
                     parseMandatoryNumberCell(row, 16),
                     null);
 
 
 
-            if (row.getCell(17) != null && ! row.getCell(17).getStringCellValue().isEmpty()) {
-                round = row.getCell(17).getStringCellValue();
+            if (row.getCell(17) != null && ! row.getCell(17).getStringValue().isEmpty()) {
+                round = row.getCell(17).getStringValue();
                 exam.setRoundId(round);
-                if (! rounds.containsKey(row.getCell(17).getStringCellValue())){
+                if (! rounds.containsKey(row.getCell(17).getStringValue())){
                     rounds.put(round, new ArrayList<>());
                 }
-                rounds.get(row.getCell(17).getStringCellValue()).add(exam.getId());
+                rounds.get(row.getCell(17).getStringValue()).add(exam.getId());
             }
 
             if (checkForAlreadyClassifiedExam(row)) {
-                exam.setDateFromExcel(row.getCell(10).getDateCellValue());
-                exam.setHourFromExcel(row.getCell(12).getNumericCellValue());
+                exam.setDateFromExcel(row.getCell(10).getDateValue());
+                exam.setHourFromExcel(row.getCell(12).getNumericValue());
             }
 
-            if (row.getCell(14) != null && row.getCell(14).getNumericCellValue() >= 0) {
-                exam.setExtraTimeFromExcel(row.getCell(14).getNumericCellValue());
+            if (row.getCell(14) != null && row.getCell(14).getNumericValue() >= 0) {
+                exam.setExtraTimeFromExcel(row.getCell(14).getNumericValue());
             }
             else {
                 exam.setExtraTime(configurer.getDateTimeConfigurer().getDefaultExamExtraMinutes());
@@ -195,7 +198,7 @@ public class ExamParser {
         return exam;
     }
 
-    private int getRowStartingAtOne(Row row) {
+    private int getRowStartingAtOne(InputRow row) {
         return row.getRowNum() + 1;
     }
 
@@ -206,8 +209,8 @@ public class ExamParser {
      * @param cell The cell to be checked.
      * @return The value of the cell. Null if no value or 0.
      */
-    private Integer parseNumberCell(Row row, int cell) {
-        return Double.valueOf(row.getCell(cell).getNumericCellValue()).intValue();
+    private Integer parseNumberCell(InputRow row, int cell) {
+        return Double.valueOf(row.getCell(cell).getNumericValue()).intValue();
     }
 
     /**
@@ -216,14 +219,14 @@ public class ExamParser {
      * @param cell The cell to be checked.
      * @return The value of the cell. Null if no value or 0.
      */
-    private Integer parseMandatoryNumberCell(Row row, int cell) {
+    private Integer parseMandatoryNumberCell(InputRow row, int cell) {
         if (row.getCell(cell) == null) {
             throw new IllegalArgumentException("Cannot omit cell: " + cell + " for an exam");
         }
-        if (row.getCell(cell).getCellType().equals(CellType.BLANK)) {
+        if (row.getCell(cell).isBlank()) {
             throw new IllegalArgumentException("Cannot omit cell: " + cell + " for an exam");
         }
-        return Double.valueOf(row.getCell(cell).getNumericCellValue()).intValue();
+        return Double.valueOf(row.getCell(cell).getNumericValue()).intValue();
     }
 
     /**
@@ -231,12 +234,12 @@ public class ExamParser {
      * @param row The row of the exam
      * @return true if the exam was classified, false otherwise.
      */
-    private boolean checkForAlreadyClassifiedExam(Row row) {
+    private boolean checkForAlreadyClassifiedExam(InputRow row) {
 
-        if (row.getCell(10) != null && !row.getCell(10).getCellType().equals(CellType.BLANK)
-            &&  row.getCell(12) != null && !row.getCell(12).getCellType().equals(CellType.BLANK)) {
+        if (row.getCell(10) != null && !row.getCell(10).isBlank()
+            &&  row.getCell(12) != null && !row.getCell(12).isBlank()) {
             try {
-                return !row.getCell(10).getDateCellValue().toString().equals("") && row.getCell(12).getNumericCellValue() != 0;
+                return !row.getCell(10).getDateValue().toString().equals("") && row.getCell(12).getNumericValue() != 0;
             } catch (Exception e){
                 return false;
             }
@@ -252,9 +255,9 @@ public class ExamParser {
      * @param exams The exam schedule.
      * @param workbook The workbook where the exam scheduling must be written.
      */
-    public void parseToExcel(List<Exam> exams, XSSFWorkbook workbook) {
+    public void parseToExcel(List<Exam> exams, Workbook workbook) {
 
-        XSSFSheet sheet = workbook.createSheet("Planificación");
+        Sheet sheet = workbook.createSheet("Planificación");
 
         int rowCount = 0;
         Row row = sheet.createRow(rowCount);
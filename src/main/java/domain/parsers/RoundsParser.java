@@ -4,7 +4,7 @@ import domain.constraints.types.softConstraints.userConstraints.SameDayConstrain
 import domain.entities.Exam;
 import logger.ConsoleLogger;
 
-import java.util.HashMap;
+import java.util.Map;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,7 +29,21 @@ public class RoundsParser {
      * @param roundsMap A map containing the round identifiers as keys and a list of exam ids with that round id.
      * @param exams Lista de exámenes.
      */
-    public void createRoundIfNecessary(HashMap<String, List<Integer>> roundsMap, List<Exam> exams) {
+    public void createRoundIfNecessary(Map<String, List<Integer>> roundsMap, List<Exam> exams) {
+        int roundCounter = setUpRounds(roundsMap, exams);
+        ConsoleLogger.getConsoleLoggerInstance().logInfo("Rounds parsed: " + roundCounter);
+    }
+
+    /**
+     * Creates the rounds, as {@link #createRoundIfNecessary(Map, List)}, but without logging them.
+     *
+     * <p>
+     * This is used to set up again the rounds of a copy of the parsed exams.
+     * @param roundsMap A map containing the round identifiers as keys and a list of exam ids with that round id.
+     * @param exams Lista de exámenes.
+     * @return The number of rounds created.
+     */
+    public int setUpRounds(Map<String, List<Integer>> roundsMap, List<Exam> exams) {
         int roundCounter = 0;
         for(List<Integer> ids : roundsMap.values()) {
             if (ids.size() > 1) {
@@ -38,7 +52,7 @@ public class RoundsParser {
                 roundCounter++;
             }
         }
-        ConsoleLogger.getConsoleLoggerInstance().logInfo("Rounds parsed: " + roundCounter);
+        return roundCounter;
     }
 
 
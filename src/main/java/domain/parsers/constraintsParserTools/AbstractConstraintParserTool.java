@@ -2,6 +2,7 @@ package domain.parsers.constraintsParserTools;
 
 import domain.ExamsSchedule;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.parsers.excelReader.InputRow;
 import logger.ConsoleLogger;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -44,9 +45,9 @@ public abstract class AbstractConstraintParserTool implements ConstraintParserTo
         return headers;
     }
 
-    protected void checkIfMustBeHard(UserConstraint uc, Row row, int i) {
+    protected void checkIfMustBeHard(UserConstraint uc, InputRow row, int i) {
         Utils.checkCellValueIsPresent(row, i, "Cannot omit cell: " + i + "on row: " + row.getRowNum() );
-        if (row.getCell(i).getBooleanCellValue()) {
+        if (row.getCell(i).getBooleanValue()) {
             uc.hardify();
         }
     }
@@ -54,7 +55,7 @@ public abstract class AbstractConstraintParserTool implements ConstraintParserTo
 
 
     @Override
-    public UserConstraint parseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule) {
+    public UserConstraint parseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule) {
         try {
             return specificParseConstraint(row, baseExcelColumn, examsSchedule);
         } catch (IllegalArgumentException e) {
@@ -65,7 +66,7 @@ public abstract class AbstractConstraintParserTool implements ConstraintParserTo
         return null;
     }
 
-    public abstract UserConstraint specificParseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule);
+    public abstract UserConstraint specificParseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule);
 
     /**
      * Generalizes the writing of common fields to all constraints
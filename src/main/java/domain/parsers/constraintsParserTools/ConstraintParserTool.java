@@ -4,6 +4,7 @@ import domain.ExamsSchedule;
 import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.parsers.ConstraintParser;
+import domain.parsers.excelReader.InputRow;
 import org.apache.poi.ss.usermodel.Row;
 
 /**
@@ -26,7 +27,7 @@ public interface ConstraintParserTool {
      * @param examsSchedule The {@code DataHandler} from which the created constraints will retrieve data.
      * @return A new {@code Constraint} parsed from {@code row}.
      */
-    UserConstraint parseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule);
+    UserConstraint parseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule);
 
     /**
      * Sets the description of this constraint in the Excel.
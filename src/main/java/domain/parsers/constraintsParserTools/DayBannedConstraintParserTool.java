@@ -5,6 +5,7 @@ import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.DayBannedConstraint;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.entities.Exam;
+import domain.parsers.excelReader.InputRow;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
@@ -18,11 +19,11 @@ import java.util.Date;
  */
 public class DayBannedConstraintParserTool extends AbstractConstraintParserTool {
     @Override
-    public UserConstraint specificParseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule) {
+    public UserConstraint specificParseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule) {
         Utils.checkCellValuesArePresent(row, new int[]{baseExcelColumn, baseExcelColumn+1, baseExcelColumn+2},
                 "Error creating Day Banned Constraint.");
-        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericCellValue());
-        UserConstraint uc = new DayBannedConstraint(exam1, row.getCell(baseExcelColumn+1).getDateCellValue()
+        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericValue());
+        UserConstraint uc = new DayBannedConstraint(exam1, row.getCell(baseExcelColumn+1).getDateValue()
                 .toInstant().atZone(ZoneId.systemDefault())
                 .toLocalDate());
         checkIfMustBeHard(uc, row, baseExcelColumn + 2);
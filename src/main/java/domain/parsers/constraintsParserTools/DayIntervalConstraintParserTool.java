@@ -5,6 +5,7 @@ import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.DayIntervalConstraint;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.entities.Exam;
+import domain.parsers.excelReader.InputRow;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.DateUtil;
 import org.apache.poi.ss.usermodel.Row;
@@ -21,14 +22,14 @@ import java.util.List;
 public class DayIntervalConstraintParserTool extends AbstractConstraintParserTool {
 
     @Override
-    public UserConstraint specificParseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule) {
+    public UserConstraint specificParseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule) {
         Utils.checkCellValuesArePresent(row, new int[]{baseExcelColumn, baseExcelColumn+1, baseExcelColumn+2, baseExcelColumn + 3},
                 "Error creating Day Interval Constraint.");
         List<LocalDate> calendar = examsSchedule.getConfigurer().getDateTimeConfigurer().getExamDates();
-        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericCellValue());
-        UserConstraint uc = new DayIntervalConstraint(exam1, row.getCell(baseExcelColumn+1).getDateCellValue()
+        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericValue());
+        UserConstraint uc = new DayIntervalConstraint(exam1, row.getCell(baseExcelColumn+1).getDateValue()
                 .toInstant().atZone(ZoneId.systemDefault())
-                .toLocalDate(), row.getCell(baseExcelColumn+2).getDateCellValue()
+                .toLocalDate(), row.getCell(baseExcelColumn+2).getDateValue()
                 .toInstant().atZone(ZoneId.systemDefault())
                 .toLocalDate(), calendar);
         checkIfMustBeHard(uc, row, baseExcelColumn + 3);
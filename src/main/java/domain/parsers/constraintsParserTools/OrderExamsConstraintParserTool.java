@@ -5,6 +5,7 @@ import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.OrderExamsConstraint;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.entities.Exam;
+import domain.parsers.excelReader.InputRow;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import utils.Utils;
@@ -14,11 +15,11 @@ import utils.Utils;
  */
 public class OrderExamsConstraintParserTool extends AbstractConstraintParserTool {
     @Override
-    public UserConstraint specificParseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule) {
+    public UserConstraint specificParseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule) {
         Utils.checkCellValuesArePresent(row, new int[]{baseExcelColumn, baseExcelColumn+1, baseExcelColumn+2},
                 "Error creating Order Exam Constraint.");
-        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericCellValue());
-        Exam exam2 = examsSchedule.getExamById((int) (row.getCell(baseExcelColumn + 1).getNumericCellValue()));
+        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericValue());
+        Exam exam2 = examsSchedule.getExamById((int) (row.getCell(baseExcelColumn + 1).getNumericValue()));
         UserConstraint uc = new OrderExamsConstraint(exam1, exam2);
         checkIfMustBeHard(uc, row, baseExcelColumn + 2);
         return uc;
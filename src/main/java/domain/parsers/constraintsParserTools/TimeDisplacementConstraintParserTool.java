@@ -5,6 +5,7 @@ import domain.constraints.types.softConstraints.SoftConstraint;
 import domain.constraints.types.softConstraints.userConstraints.TimeDisplacementConstraint;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import domain.entities.Exam;
+import domain.parsers.excelReader.InputRow;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import utils.Utils;
@@ -16,13 +17,13 @@ public class TimeDisplacementConstraintParserTool extends AbstractConstraintPars
 
 
     @Override
-    public UserConstraint specificParseConstraint(Row row, int baseExcelColumn, ExamsSchedule examsSchedule) {
+    public UserConstraint specificParseConstraint(InputRow row, int baseExcelColumn, ExamsSchedule examsSchedule) {
         Utils.checkCellValuesArePresent(row, new int[]{baseExcelColumn, baseExcelColumn+1, baseExcelColumn+2},
                 "Error creating Time Displacement Constraint.");
-        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericCellValue());
-        Exam exam2 = examsSchedule.getExamById((int) (row.getCell(baseExcelColumn + 1).getNumericCellValue()));
-        UserConstraint uc = new TimeDisplacementConstraint(exam1, exam2, (long) row.getCell(baseExcelColumn + 2).getNumericCellValue(),
-                examsSchedule.getConfigurer().getDateTimeConfigurer().getExamDates());
+        Exam exam1 = examsSchedule.getExamById((int) row.getCell(baseExcelColumn).getNumericValue());
+        Exam exam2 = examsSchedule.getExamById((int) (row.getCell(baseExcelColumn + 1).getNumericValue()));
+        UserConstraint uc = new TimeDisplacementConstraint(exam1, exam2, (long) row.getCell(baseExcelColumn + 2).getNumericValue(),
+                examsSchedule.getConfigurer().getDateTimeConfigurer().getCalendarIndex());
         checkIfMustBeHard(uc, row, baseExcelColumn + 3);
         return uc;
     }
@@ -0,0 +1,188 @@
+package domain.parsers.excelReader;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.util.Date;
+
+/**
+ * This is a cell of an {@link InputWorkbook}. It only holds the value of the cell.
+ *
+ * <p>
+ * The typed getters behave as the ones of {@code XSSFCell}: a blank cell gives the default value of each type, and
+ * asking for a value of another type throws an {@code IllegalStateException}, which the parsers already handle.
+ */
+public class InputCell {
+
+    /**
+     * Types of value that a cell can hold. In formula cells, it is the type of the cached result.
+     */
+    public enum ValueType {
+        BLANK, NUMERIC, STRING, BOOLEAN, ERROR
+    }
+
+    /**
+     * Index of the column of the cell, starting at 0.
+     */
+    private final int columnIndex;
+
+    /**
+     * Type of the value of the cell.
+     */
+    private final ValueType valueType;
+
+    /**
+     * Whether the cell has a formula.
+     */
+    private final boolean formula;
+
+    /**
+     * Value of the cell, as it was written in the file. Shared strings are already resolved. Null if it had no value.
+     */
+    private final String value;
+
+    /**
+     * Whether the dates of the workbook use the 1904 date system.
+     */
+    private final boolean date1904;
+
+    /**
+     * Constructor for the class.
+     * @param columnIndex The index of the column of the cell, starting at 0.
+     * @param valueType The type of the value of the cell, or of the cached result if it is a formula cell.
+     * @param formula Whether the cell has a formula.
+     * @param value The value of the cell as it was written in the file, null if it had no value.
+     * @param date1904 Whether the dates of the workbook use the 1904 date system.
+     */
+    InputCell(int columnIndex, ValueType valueType, boolean formula, String value, boolean date1904) {
+        this.columnIndex = columnIndex;
+        this.valueType = valueType;
+        this.formula = formula;
+        this.value = value;
+        this.date1904 = date1904;
+    }
+
+    /**
+     * Returns the index of the column of the cell.
+     * @return The index of the column, starting at 0.
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * Returns the type of the value of the cell.
+     * @return The type of the value of the cell, or of the cached result if it is a formula cell.
+     */
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Checks whether the cell has no value.
+     * @return True if the cell is blank, false otherwise.
+     */
+    public boolean isBlank() {
+        return valueType == ValueType.BLANK;
+    }
+
+    /**
+     * Returns whether the cell has a formula.
+     * @return True if the cell has a formula, false otherwise.
+     */
+    boolean isFormula() {
+        return formula;
+    }
+
+    /**
+     * Returns the value of the cell as it was written in the file.
+     * @return The value of the cell, with the shared strings resolved. Null if it had no value.
+     */
+    String getRawValue() {
+        return value;
+    }
+
+    /**
+     * Returns the numeric value of the cell.
+     * @return The value of the cell, 0 if it is blank.
+     * @throws IllegalStateException if the cell does not hold a number.
+     */
+    public double getNumericValue() {
+        if (isBlank()) {
+            return 0.0;
+        }
+        checkValueType(ValueType.NUMERIC);
+        if (value == null || value.isEmpty()) {
+            return 0.0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw typeMismatch(ValueType.NUMERIC, ValueType.STRING);
+        }
+    }
+
+    /**
+     * Returns the value of the cell as a date.
+     * @return The date in the cell, null if it is blank.
+     * @throws IllegalStateException if the cell does not hold a number.
+     */
+    public Date getDateValue() {
+        if (isBlank()) {
+            return null;
+        }
+        return DateUtil.getJavaDate(getNumericValue(), date1904);
+    }
+
+    /**
+     * Returns the text of the cell.
+     * @return The text in the cell, empty if it is blank.
+     * @throws IllegalStateException if the cell does not hold a text.
+     */
+    public String getStringValue() {
+        if (isBlank()) {
+            return "";
+        }
+        checkValueType(ValueType.STRING);
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Returns the boolean value of the cell.
+     * @return The value of the cell, false if it is blank.
+     * @throws IllegalStateException if the cell does not hold a boolean.
+     */
+    public boolean getBooleanValue() {
+        if (isBlank()) {
+            return false;
+        }
+        checkValueType(ValueType.BOOLEAN);
+        return "1".equals(value);
+    }
+
+    /**
+     * Checks the type of the value of the cell.
+     * @param expected The expected type.
+     * @throws IllegalStateException if the value of the cell is not of the {@code expected} type.
+     */
+    private void checkValueType(ValueType expected) {
+        if (valueType != expected) {
+            throw typeMismatch(expected, valueType);
+        }
+    }
+
+    /**
+     * Builds the exception for a type mismatch, with the same message as {@code XSSFCell}.
+     * @param expected The expected type.
+     * @param actual The type of the value of the cell.
+     * @return The exception to be thrown.
+     */
+    private IllegalStateException typeMismatch(ValueType expected, ValueType actual) {
+        return new IllegalStateException("Cannot get a " + expected + " value from a " + actual + " "
+                + (formula ? "formula " : "") + "cell");
+    }
+
+    @Override
+    public String toString() {
+        return value == null ? "" : value;
+    }
+}
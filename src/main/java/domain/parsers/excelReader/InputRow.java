@@ -0,0 +1,80 @@
+package domain.parsers.excelReader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * This is a row of an {@link InputWorkbook}. It only holds the cells that were in the file.
+ */
+public class InputRow {
+
+    /**
+     * Index of the row, starting at 0.
+     */
+    private final int rowNum;
+
+    /**
+     * Whether the dates of the workbook use the 1904 date system.
+     */
+    private final boolean date1904;
+
+    /**
+     * Cells of the row, indexed by column. Null for the cells that were not in the file.
+     */
+    private final List<InputCell> cells;
+
+    /**
+     * Constructor for the class.
+     * @param rowNum The index of the row, starting at 0.
+     * @param date1904 Whether the dates of the workbook use the 1904 date system.
+     */
+    InputRow(int rowNum, boolean date1904) {
+        this.rowNum = rowNum;
+        this.date1904 = date1904;
+        this.cells = new ArrayList<>();
+    }
+
+    /**
+     * Adds a cell to the row.
+     * @param columnIndex The index of the column of the cell, starting at 0.
+     * @param valueType The type of the value of the cell, or of the cached result if it is a formula cell.
+     * @param formula Whether the cell has a formula.
+     * @param value The value of the cell as it was written in the file, null if it had no value.
+     */
+    void addCell(int columnIndex, InputCell.ValueType valueType, boolean formula, String value) {
+        while (cells.size() <= columnIndex) {
+            cells.add(null);
+        }
+        cells.set(columnIndex, new InputCell(columnIndex, valueType, formula, value, date1904));
+    }
+
+    /**
+     * Returns the cells that were in the file.
+     * @return The cells of the row, in ascending order of column.
+     */
+    List<InputCell> getCells() {
+        return cells.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the index of the row.
+     * @return The index of the row, starting at 0.
+     */
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    /**
+     * Returns a cell of the row.
+     * @param columnIndex The index of the column of the cell, starting at 0.
+     * @return The cell, null if it was not in the file.
+     */
+    public InputCell getCell(int columnIndex) {
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Cell index must be >= 0");
+        }
+        return columnIndex < cells.size() ? cells.get(columnIndex) : null;
+    }
+}
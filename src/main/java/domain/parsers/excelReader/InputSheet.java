@@ -0,0 +1,90 @@
+package domain.parsers.excelReader;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.TreeMap;
+
+/**
+ * This is a read only sheet of an {@link InputWorkbook}.
+ *
+ * <p>
+ * As {@code XSSFSheet}, it iterates the rows that were in the file in ascending order, and {@link #getRow(int)}
+ * returns null for the rest of them.
+ */
+public class InputSheet implements Iterable<InputRow> {
+
+    /**
+     * Name of the sheet.
+     */
+    private final String name;
+
+    /**
+     * Whether the dates of the workbook use the 1904 date system.
+     */
+    private final boolean date1904;
+
+    /**
+     * Rows of the sheet, by index.
+     */
+    private final TreeMap<Integer, InputRow> rows;
+
+    /**
+     * Constructor for the class.
+     * @param name The name of the sheet.
+     * @param date1904 Whether the dates of the workbook use the 1904 date system.
+     */
+    InputSheet(String name, boolean date1904) {
+        this.name = name;
+        this.date1904 = date1904;
+        this.rows = new TreeMap<>();
+    }
+
+    /**
+     * Adds a new row to the sheet, replacing any previous one with the same index.
+     * @param rowNum The index of the row, starting at 0.
+     * @return The new row.
+     */
+    InputRow createRow(int rowNum) {
+        InputRow row = new InputRow(rowNum, date1904);
+        rows.put(rowNum, row);
+        return row;
+    }
+
+    /**
+     * Returns whether the dates of the workbook use the 1904 date system.
+     * @return True if the dates are in the 1904 date system, false if they are in the 1900 one.
+     */
+    boolean isDate1904() {
+        return date1904;
+    }
+
+    /**
+     * Returns the name of the sheet.
+     * @return The name of the sheet.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a row of the sheet.
+     * @param rowNum The index of the row, starting at 0.
+     * @return The row, null if it was not in the file.
+     */
+    public InputRow getRow(int rowNum) {
+        return rows.get(rowNum);
+    }
+
+    /**
+     * Returns the number of rows that were in the file.
+     * @return The number of rows of the sheet.
+     */
+    public int getPhysicalNumberOfRows() {
+        return rows.size();
+    }
+
+    @Override
+    public Iterator<InputRow> iterator() {
+        return Collections.unmodifiableCollection(rows.values()).iterator();
+    }
+}
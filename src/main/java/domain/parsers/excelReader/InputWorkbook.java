@@ -0,0 +1,227 @@
+package domain.parsers.excelReader;
+
+import logger.ConsoleLogger;
+import org.apache.poi.ooxml.POIXMLException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This holds the sheets of the input Excel file: exams, constraints and calendar.
+ *
+ * <p>
+ * The file is opened once, and the three sheets are streamed with POI's event API, so no DOM of the workbook is ever
+ * built. Only the values of the cells are kept, in read only {@link InputSheet}, so it can be shared by all the
+ * parsers and threads that need the input data.
+ *
+ * <p>
+ * The loaded sheets are also stored in a binary snapshot next to the Excel file, see {@link InputWorkbookSnapshot}.
+ * Later loads of the same, unchanged, file read the snapshot instead of the Excel.
+ */
+public class InputWorkbook {
+
+    /**
+     * Index of the sheet with the exams.
+     */
+    public static final int EXAMS_SHEET = 0;
+
+    /**
+     * Index of the sheet with the user constraints.
+     */
+    public static final int CONSTRAINTS_SHEET = 1;
+
+    /**
+     * Index of the sheet with the calendar.
+     */
+    public static final int CALENDAR_SHEET = 2;
+
+    /**
+     * Number of sheets of the input file that are read.
+     */
+    private static final int INPUT_SHEETS = 3;
+
+    /**
+     * Path of the file from which the workbook was loaded.
+     */
+    private final String filepath;
+
+    /**
+     * The sheets that were read, in the order of the file.
+     */
+    private final List<InputSheet> sheets;
+
+    /**
+     * Constructor for the class.
+     * @param filepath The path of the file from which the workbook was loaded.
+     * @param sheets The sheets that were read.
+     */
+    InputWorkbook(String filepath, List<InputSheet> sheets) {
+        this.filepath = filepath;
+        this.sheets = sheets;
+    }
+
+    /**
+     * Loads the sheets of the input Excel file, from its snapshot if there is an up to date one.
+     *
+     * <p>
+     * Otherwise, the Excel file is parsed and its snapshot is written. Failing to write it is not an error.
+     * @param filepath The path of the input Excel file.
+     * @return The loaded workbook.
+     * @throws IllegalArgumentException if the file does not exist or it could not be parsed.
+     */
+    public static InputWorkbook load(String filepath) {
+        File file = new File(filepath);
+        if (! file.isFile()) {
+            throw new IllegalArgumentException("Could not find input Excel file: " + filepath);
+        }
+
+        InputWorkbookSnapshot snapshot;
+        try {
+            snapshot = new InputWorkbookSnapshot(file.toPath());
+        } catch (IOException e) {
+            snapshot = null;
+        }
+
+        if (snapshot != null) {
+            InputWorkbook workbook = snapshot.read(filepath);
+            if (workbook != null) {
+                ConsoleLogger.getConsoleLoggerInstance().logInfo("Input loaded from snapshot: " + filepath
+                        + InputWorkbookSnapshot.SUFFIX);
+                return workbook;
+            }
+        }
+
+        InputWorkbook workbook = parseExcel(file, filepath);
+        if (snapshot != null) {
+            try {
+                snapshot.write(workbook);
+            } catch (IOException e) {
+                ConsoleLogger.getConsoleLoggerInstance().logInfo("Could not write snapshot of input Excel file: "
+                        + filepath);
+            }
+        }
+        return workbook;
+    }
+
+    /**
+     * Parses the sheets of the input Excel file.
+     * @param file The input Excel file.
+     * @param filepath The path of the input Excel file, as given to {@link #load(String)}.
+     * @return The parsed workbook.
+     * @throws IllegalArgumentException if the file could not be parsed.
+     */
+    private static InputWorkbook parseExcel(File file, String filepath) {
+        OPCPackage opcPackage = null;
+        try {
+            opcPackage = OPCPackage.open(file, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            boolean date1904 = isDate1904(reader);
+
+            List<InputSheet> sheets = new ArrayList<>();
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (iterator.hasNext() && sheets.size() < INPUT_SHEETS) {
+                try (InputStream sheetData = iterator.next()) {
+                    InputSheet sheet = new InputSheet(iterator.getSheetName(), date1904);
+                    parse(sheetData, new SheetContentHandler(sheet, sharedStrings));
+                    sheets.add(sheet);
+                }
+            }
+            return new InputWorkbook(filepath, sheets);
+
+        } catch (IOException | SAXException | OpenXML4JException | POIXMLException | IllegalArgumentException
+                | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Could not parse input Excel file: " + filepath, e);
+        } finally {
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
+        }
+    }
+
+    /**
+     * Checks the date system of the workbook.
+     * @param reader The reader of the workbook.
+     * @return True if the dates are in the 1904 date system, false if they are in the 1900 one.
+     * @throws IOException if the workbook could not be read.
+     * @throws SAXException if the workbook could not be parsed.
+     * @throws OpenXML4JException if the workbook part is missing.
+     */
+    private static boolean isDate1904(XSSFReader reader) throws IOException, SAXException, OpenXML4JException {
+        boolean[] date1904 = {false};
+        try (InputStream workbookData = reader.getWorkbookData()) {
+            parse(workbookData, new DefaultHandler() {
+                @Override
+                public void startElement(String uri, String localName, String qName, Attributes attributes) {
+                    if (localName.equals("workbookPr")) {
+                        String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equals(value);
+                    }
+                }
+            });
+        }
+        return date1904[0];
+    }
+
+    /**
+     * Parses an XML stream with a SAX handler.
+     * @param data The XML stream.
+     * @param handler The handler of the parsing events.
+     * @throws IOException if the stream could not be read.
+     * @throws SAXException if the stream could not be parsed.
+     */
+    private static void parse(InputStream data, DefaultHandler handler) throws IOException, SAXException {
+        try {
+            XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(handler);
+            xmlReader.parse(new InputSource(data));
+        } catch (ParserConfigurationException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * Returns the number of sheets of the workbook.
+     * @return The number of sheets that were read.
+     */
+    public int getNumberOfSheets() {
+        return sheets.size();
+    }
+
+    /**
+     * Returns the path of the file from which the workbook was loaded.
+     * @return The path of the input Excel file.
+     */
+    public String getFilepath() {
+        return filepath;
+    }
+
+    /**
+     * Returns a sheet of the workbook.
+     * @param index The index of the sheet, starting at 0.
+     * @return The sheet at {@code index}.
+     * @throws IllegalArgumentException if the workbook does not have such sheet.
+     */
+    public InputSheet getSheetAt(int index) {
+        if (index < 0 || index >= sheets.size()) {
+            throw new IllegalArgumentException("Sheet index (" + index + ") is out of range (0.."
+                    + (sheets.size() - 1) + ")");
+        }
+        return sheets.get(index);
+    }
+}
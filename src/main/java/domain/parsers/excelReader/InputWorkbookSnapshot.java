@@ -0,0 +1,238 @@
+package domain.parsers.excelReader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This is a binary snapshot of an {@link InputWorkbook}, stored next to its Excel file.
+ *
+ * <p>
+ * It keeps the values of the cells of the input sheets, so the exams, rounds, calendar, user constraints with their
+ * hard flags and pre-scheduled assignments are parsed from it exactly as from the Excel, but without unzipping nor
+ * parsing any XML. It is keyed by the modification time, the size and the SHA-256 hash of the Excel file, so a
+ * snapshot of a previous version of the file is never used. It is read through a memory-mapped buffer.
+ */
+class InputWorkbookSnapshot {
+
+    /**
+     * Suffix added to the path of the Excel file to get the path of its snapshot.
+     */
+    static final String SUFFIX = ".snapshot";
+
+    /**
+     * Magic number at the start of the snapshot files.
+     */
+    private static final int MAGIC = 0x54464753;
+
+    /**
+     * Version of the format of the snapshots. It must be changed whenever the format changes.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Types of value of the cells, indexed by their code in the snapshot.
+     */
+    private static final InputCell.ValueType[] VALUE_TYPES = {
+            InputCell.ValueType.BLANK, InputCell.ValueType.NUMERIC, InputCell.ValueType.STRING,
+            InputCell.ValueType.BOOLEAN, InputCell.ValueType.ERROR
+    };
+
+    /**
+     * Path of the snapshot.
+     */
+    private final Path snapshotPath;
+
+    /**
+     * Modification time of the Excel file, in milliseconds.
+     */
+    private final long sourceModificationTime;
+
+    /**
+     * Size of the Excel file, in bytes.
+     */
+    private final long sourceSize;
+
+    /**
+     * SHA-256 hash of the Excel file.
+     */
+    private final byte[] sourceHash;
+
+    /**
+     * Constructor for the class. It computes the key of the current content of the Excel file.
+     * @param sourcePath The path of the Excel file.
+     * @throws IOException if the Excel file could not be read.
+     */
+    InputWorkbookSnapshot(Path sourcePath) throws IOException {
+        this.snapshotPath = Paths.get(sourcePath.toString() + SUFFIX);
+        this.sourceModificationTime = Files.getLastModifiedTime(sourcePath).toMillis();
+        this.sourceSize = Files.size(sourcePath);
+        this.sourceHash = hashOf(sourcePath);
+    }
+
+    /**
+     * Computes the SHA-256 hash of a file.
+     * @param path The path of the file.
+     * @return The hash of the content of the file.
+     * @throws IOException if the file could not be read.
+     */
+    private static byte[] hashOf(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the snapshot.
+     * @param filepath The path of the Excel file, as given to {@link InputWorkbook#load(String)}.
+     * @return The workbook stored in the snapshot, null if there is no snapshot, or it is not of the current content
+     * of the Excel file, or it could not be read.
+     */
+    InputWorkbook read(String filepath) {
+        if (! Files.isRegularFile(snapshotPath)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != sourceModificationTime
+                    || buffer.getLong() != sourceSize) {
+                return null;
+            }
+            byte[] hash = new byte[sourceHash.length];
+            buffer.get(hash);
+            if (! Arrays.equals(hash, sourceHash)) {
+                return null;
+            }
+
+            boolean date1904 = buffer.get() != 0;
+            int numberOfSheets = buffer.getInt();
+            List<InputSheet> sheets = new ArrayList<>(numberOfSheets);
+            for (int s = 0; s < numberOfSheets; s++) {
+                InputSheet sheet = new InputSheet(readString(buffer), date1904);
+                int numberOfRows = buffer.getInt();
+                for (int r = 0; r < numberOfRows; r++) {
+                    InputRow row = sheet.createRow(buffer.getInt());
+                    int numberOfCells = buffer.getInt();
+                    for (int c = 0; c < numberOfCells; c++) {
+                        int columnIndex = buffer.getInt();
+                        InputCell.ValueType valueType = VALUE_TYPES[buffer.get()];
+                        boolean formula = buffer.get() != 0;
+                        row.addCell(columnIndex, valueType, formula, readString(buffer));
+                    }
+                }
+                sheets.add(sheet);
+            }
+            return new InputWorkbook(filepath, sheets);
+
+        } catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot, replacing any previous one.
+     *
+     * <p>
+     * It is first written to a temporary file, and then moved to its path, so a concurrent execution never reads a
+     * half-written snapshot.
+     * @param workbook The workbook loaded from the Excel file.
+     * @throws IOException if the snapshot could not be written.
+     */
+    void write(InputWorkbook workbook) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(sourceModificationTime);
+        out.writeLong(sourceSize);
+        out.write(sourceHash);
+
+        out.writeBoolean(workbook.getNumberOfSheets() > 0 && workbook.getSheetAt(0).isDate1904());
+        out.writeInt(workbook.getNumberOfSheets());
+        for (int s = 0; s < workbook.getNumberOfSheets(); s++) {
+            InputSheet sheet = workbook.getSheetAt(s);
+            writeString(out, sheet.getName());
+            out.writeInt(sheet.getPhysicalNumberOfRows());
+            for (InputRow row: sheet) {
+                List<InputCell> cells = row.getCells();
+                out.writeInt(row.getRowNum());
+                out.writeInt(cells.size());
+                for (InputCell cell: cells) {
+                    out.writeInt(cell.getColumnIndex());
+                    out.writeByte(Arrays.asList(VALUE_TYPES).indexOf(cell.getValueType()));
+                    out.writeBoolean(cell.isFormula());
+                    writeString(out, cell.getRawValue());
+                }
+            }
+        }
+        out.flush();
+
+        Path temporary = Files.createTempFile(snapshotPath.toAbsolutePath().getParent(),
+                snapshotPath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, bytes.toByteArray());
+            try {
+                Files.move(temporary, snapshotPath, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Writes a string that may be null.
+     * @param out The output stream.
+     * @param value The string to be written.
+     * @throws IOException if the string could not be written.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     * @param buffer The buffer from which the string is read.
+     * @return The string, that may be null.
+     */
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,216 @@
+package domain.parsers.excelReader;
+
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * This is the SAX handler that fills an {@link InputSheet} with the rows and cells of the XML of a worksheet.
+ *
+ * <p>
+ * The values of the cells are kept as they are written in the XML, so that {@link InputCell} can give them the same
+ * meaning as {@code XSSFCell}. Only the shared strings are resolved here.
+ */
+class SheetContentHandler extends DefaultHandler {
+
+    /**
+     * The sheet being filled.
+     */
+    private final InputSheet sheet;
+
+    /**
+     * The shared strings of the workbook.
+     */
+    private final ReadOnlySharedStringsTable sharedStrings;
+
+    /**
+     * The row being read, null when out of a row.
+     */
+    private InputRow row;
+
+    /**
+     * Index of the last row read.
+     */
+    private int lastRowNum = -1;
+
+    /**
+     * Index of the column of the last cell read in the current row.
+     */
+    private int lastColumnIndex;
+
+    /**
+     * Type attribute of the cell being read, null if it has none.
+     */
+    private String cellType;
+
+    /**
+     * Whether the cell being read has a formula.
+     */
+    private boolean formula;
+
+    /**
+     * Content of the value element of the cell being read, null if it has none.
+     */
+    private StringBuilder value;
+
+    /**
+     * Content of the inline string of the cell being read, null if it has none.
+     */
+    private StringBuilder inlineString;
+
+    /**
+     * Buffer where the text of the current element is being read, null if it is not needed.
+     */
+    private StringBuilder text;
+
+    /**
+     * Whether the handler is inside the inline string of a cell.
+     */
+    private boolean insideInlineString;
+
+    /**
+     * Whether the handler is inside a phonetic run, whose text is not part of the value of the cell.
+     */
+    private boolean insidePhoneticRun;
+
+    /**
+     * Constructor for the class.
+     * @param sheet The sheet that will be filled.
+     * @param sharedStrings The shared strings of the workbook.
+     */
+    SheetContentHandler(InputSheet sheet, ReadOnlySharedStringsTable sharedStrings) {
+        this.sheet = sheet;
+        this.sharedStrings = sharedStrings;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) {
+        switch (localName) {
+            case "row":
+                String rowReference = attributes.getValue("r");
+                lastRowNum = rowReference == null ? lastRowNum + 1 : Integer.parseInt(rowReference) - 1;
+                row = sheet.createRow(lastRowNum);
+                lastColumnIndex = -1;
+                break;
+            case "c":
+                String cellReference = attributes.getValue("r");
+                lastColumnIndex = cellReference == null ? lastColumnIndex + 1 : columnIndexOf(cellReference);
+                cellType = attributes.getValue("t");
+                formula = false;
+                value = null;
+                inlineString = null;
+                break;
+            case "f":
+                formula = true;
+                break;
+            case "v":
+                value = new StringBuilder();
+                text = value;
+                break;
+            case "is":
+                inlineString = new StringBuilder();
+                insideInlineString = true;
+                break;
+            case "rPh":
+                insidePhoneticRun = true;
+                break;
+            case "t":
+                if (insideInlineString && ! insidePhoneticRun) {
+                    text = inlineString;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) {
+        switch (localName) {
+            case "row":
+                row = null;
+                break;
+            case "c":
+                if (row != null) {
+                    addCell();
+                }
+                break;
+            case "v":
+            case "t":
+                text = null;
+                break;
+            case "is":
+                insideInlineString = false;
+                break;
+            case "rPh":
+                insidePhoneticRun = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) {
+        if (text != null) {
+            text.append(ch, start, length);
+        }
+    }
+
+    /**
+     * Adds the cell that was just read to the current row.
+     */
+    private void addCell() {
+        String rawValue = value == null ? null : value.toString();
+        InputCell.ValueType valueType;
+        String cellValue = rawValue;
+
+        if (cellType == null || cellType.equals("n")) {
+            valueType = rawValue == null && ! formula ? InputCell.ValueType.BLANK : InputCell.ValueType.NUMERIC;
+        }
+        else {
+            switch (cellType) {
+                case "s":
+                    valueType = InputCell.ValueType.STRING;
+                    if (rawValue != null && ! rawValue.isEmpty()) {
+                        cellValue = sharedStrings.getItemAt(Integer.parseInt(rawValue.trim())).getString();
+                    }
+                    break;
+                case "inlineStr":
+                    valueType = InputCell.ValueType.STRING;
+                    if (rawValue == null && inlineString != null) {
+                        cellValue = inlineString.toString();
+                    }
+                    break;
+                case "b":
+                    valueType = InputCell.ValueType.BOOLEAN;
+                    break;
+                case "e":
+                    valueType = InputCell.ValueType.ERROR;
+                    break;
+                default:
+                    valueType = InputCell.ValueType.STRING;
+                    break;
+            }
+        }
+
+        row.addCell(lastColumnIndex, valueType, formula, cellValue);
+    }
+
+    /**
+     * Computes the index of the column of a cell reference.
+     * @param cellReference A cell reference, such as "AB12".
+     * @return The index of its column, starting at 0.
+     */
+    private static int columnIndexOf(String cellReference) {
+        int column = 0;
+        for (int i = 0; i < cellReference.length(); i++) {
+            char c = cellReference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+        return column - 1;
+    }
+}
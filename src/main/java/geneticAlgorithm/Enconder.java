@@ -3,7 +3,6 @@ package geneticAlgorithm;
 import domain.ExamsSchedule;
 import domain.entities.Exam;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -21,10 +20,10 @@ public class Enconder {
      * @return An individual with the positions of the exams in the list.
      */
     public Individual encodeListExams(ExamsSchedule examsSchedule){
-        List<Integer> examIds = new ArrayList<>();
-        for (Exam exam: examsSchedule.getPreUnscheduledExams()) {
-                //indexes.add(dataHandler.getIndexOfExam(exam));
-                examIds.add(exam.getId());
+        List<Exam> exams = examsSchedule.getPreUnscheduledExams();
+        int[] examIds = new int[exams.size()];
+        for (int i = 0; i < examIds.length; i++) {
+                examIds[i] = exams.get(i).getId();
         }
         return new Individual(examIds);
     }
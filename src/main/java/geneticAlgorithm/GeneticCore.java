@@ -1,6 +1,7 @@
 package geneticAlgorithm;
 
 import geneticAlgorithm.fitnessFunctions.FitnessFunction;
+import geneticAlgorithm.fitnessFunctions.ParallelFitnessEvaluator;
 import geneticAlgorithm.operators.GeneticOperators;
 import geneticAlgorithm.operators.crossing.CrossingOperator;
 import geneticAlgorithm.operators.mutation.MutationOperator;
@@ -16,6 +17,7 @@ import java.text.DecimalFormat;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 
@@ -72,6 +74,11 @@ public class GeneticCore {
      */
     private final GeneticLogger logger;
 
+    /**
+     * Evaluator used to compute the fitness of each generation concurrently. Null if the evaluation is sequential.
+     */
+    private ParallelFitnessEvaluator evaluator;
+
     /**
      * Constructor for the class
      * @param individualPrime First individual from which the initial population will be created.
@@ -80,7 +87,7 @@ public class GeneticCore {
      * @param geneticLogger The Genetic Logger for the algorithm
      */
     public GeneticCore(Individual individualPrime, int popSize, GeneticOperators geneticOperators, GeneticLogger geneticLogger) {
-        if (individualPrime.getChromosome().size() == 0) {
+        if (individualPrime.getChromosomeLength() == 0) {
             throw new IllegalArgumentException("There are no exams ids to work with in the given individual.");
         }
         /*
@@ -137,6 +144,7 @@ public class GeneticCore {
         int genCounter = 0;
 
         // Needed to be repeated for initial generation
+        evaluate(population);
         Individual bestIndividual = getBestIndividual(fitnessFunction);
         double averageFitness = averageFitness(fitnessFunction);
 
@@ -197,7 +205,7 @@ public class GeneticCore {
      * @param fitnessFunction Fitness function to be used by the algorithm.
      * @return The average fitness of the current population.
      */
-    private double averageFitness(FitnessFunction fitnessFunction) {
+    public double averageFitness(FitnessFunction fitnessFunction) {
 
         double accumulator = 0;
 
@@ -216,7 +224,7 @@ public class GeneticCore {
      * @param fitnessFunction Fitness function to be used by the algorithm.
      * @return The individual with less fitness value of the population.
      */
-    private Individual getBestIndividual(FitnessFunction fitnessFunction) {
+    public Individual getBestIndividual(FitnessFunction fitnessFunction) {
         // We are minimizing, the best individual is the closest fitness to 0
         Individual bestIndividual = null;
         double bestFitnessFound = Double.POSITIVE_INFINITY;
@@ -232,6 +240,45 @@ public class GeneticCore {
         return bestIndividual;
     }
 
+    /**
+     * Replaces the current population by a new generation.
+     *
+     * <p>
+     * This allows other engines, such as {@link IslandGeneticCore}, to drive the algorithm generation by generation.
+     * @param fitnessFunction Fitness function to be used by the algorithm.
+     * @param mutationProbability The mutation probability of the new individuals.
+     * @param crossingProb The crossing probability of the individuals.
+     */
+    public void nextGeneration(FitnessFunction fitnessFunction, double mutationProbability, double crossingProb) {
+        evaluate(population);
+        population = computeNewGeneration(fitnessFunction, mutationProbability, crossingProb);
+    }
+
+    /**
+     * Returns the best individuals of the population.
+     * @param amount Number of individuals to be returned.
+     * @param fitnessFunction Fitness function to be used by the algorithm.
+     * @return A list with the {@code amount} individuals with less fitness value, sorted from best to worst.
+     */
+    public List<Individual> getBestIndividuals(int amount, FitnessFunction fitnessFunction) {
+        List<Individual> sorted = new ArrayList<>(population);
+        sorted.sort(Comparator.comparingDouble(idv -> idv.getFitnessScore(fitnessFunction)));
+        return new ArrayList<>(sorted.subList(0, Math.min(amount, sorted.size())));
+    }
+
+    /**
+     * Introduces a set of individuals into the population, in place of the worst ones.
+     * @param migrants The individuals to be introduced.
+     * @param fitnessFunction Fitness function to be used by the algorithm.
+     */
+    public void receiveMigrants(List<Individual> migrants, FitnessFunction fitnessFunction) {
+        population.sort(Comparator.comparingDouble(idv -> idv.getFitnessScore(fitnessFunction)));
+        int limit = Math.min(migrants.size(), population.size());
+        for (int i = 0; i < limit; i++) {
+            population.set(population.size()-1-i, migrants.get(i));
+        }
+    }
+
     /**
      * Computes a new generation of the population.
      * @param fitnessFunction Fitness function to be used by the algorithm.
@@ -243,8 +290,9 @@ public class GeneticCore {
                                                   double crossingProb) {
 
         List<Individual> newGenChilds = new ArrayList<>(population.size());
+        selectionOperator.prepare(population, fitnessFunction);
 
-        while (newGenChilds.size() != population.size()) {
+        while (newGenChilds.size() < population.size()) {
             Individual father = selectionOperator.selection(population, fitnessFunction);
             Individual mother = selectionOperator.selection(population, fitnessFunction);
 
@@ -256,9 +304,36 @@ public class GeneticCore {
 
         }
 
+        // Crossing operators may produce several children, the extra ones are discarded.
+        while (newGenChilds.size() > population.size()) {
+            newGenChilds.remove(newGenChilds.size() - 1);
+        }
+
+        evaluate(newGenChilds);
         return replacementOperator.doReplacement(population, newGenChilds, fitnessFunction);
     }
 
+    /**
+     * Computes the fitness of the given individuals with the parallel evaluator, if there is one.
+     *
+     * <p>
+     * Otherwise, the individuals will be evaluated lazily when their fitness is needed.
+     * @param individuals The individuals to be evaluated.
+     */
+    private void evaluate(List<Individual> individuals) {
+        if (evaluator != null) {
+            evaluator.evaluate(individuals);
+        }
+    }
+
+    /**
+     * Sets the evaluator that will compute the fitness of each generation concurrently.
+     * @param evaluator The parallel evaluator, or null to evaluate the individuals sequentially.
+     */
+    public void setParallelEvaluator(ParallelFitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
     /**
      * Checks if a child must have a mutation.
      * @param childs List of the new individuals.
@@ -0,0 +1,156 @@
+package geneticAlgorithm;
+
+import domain.ExamInstance;
+import domain.ExamsSchedule;
+import domain.configuration.GeneticParameters;
+import geneticAlgorithm.fitnessFunctions.CachedFitnessFunction;
+import geneticAlgorithm.fitnessFunctions.FitnessCache;
+import geneticAlgorithm.fitnessFunctions.FitnessFunction;
+import geneticAlgorithm.fitnessFunctions.LinearFitnessFunction;
+import geneticAlgorithm.fitnessFunctions.ParallelFitnessEvaluator;
+import geneticAlgorithm.operators.GeneticOperators;
+import logger.dataGetter.fitnessLogger.GeneticLogger;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This is one execution of the Genetic Algorithm over a schedule, set up as the {@link GeneticParameters} say.
+ *
+ * <p>
+ * It builds everything the algorithm needs: the initial individual, the fitness function, with its
+ * {@link FitnessCache} if there must be one, the {@link GeneticOperators} and the engine. With several islands the
+ * engine is an {@link IslandGeneticCore}. Otherwise it is a {@link GeneticCore}, along with a
+ * {@link ParallelFitnessEvaluator} if more than one evaluation thread is requested.
+ */
+public class GeneticExecution {
+
+    /**
+     * Parameters of the algorithm.
+     */
+    private final GeneticParameters geneticParameters;
+
+    /**
+     * Fitness function linked to the schedule of the execution.
+     */
+    private final FitnessFunction fitnessFunction;
+
+    /**
+     * Engine of the algorithm. Null if the island model is used.
+     */
+    private final GeneticCore geneticCore;
+
+    /**
+     * Engine of the island model. Null if there is a single population.
+     */
+    private final IslandGeneticCore islandCore;
+
+    /**
+     * Evaluator used to compute the fitness of each generation concurrently. Null if the evaluation is sequential.
+     */
+    private final ParallelFitnessEvaluator evaluator;
+
+    /**
+     * Constructor for the class.
+     * @param instance The instance of the problem from which {@code examsSchedule} was created.
+     * @param examsSchedule The schedule on which the algorithm will work.
+     * @param geneticParameters The parameters of the algorithm.
+     * @param geneticLogger The Genetic Logger for the algorithm.
+     * @param elite Set of Individuals that must be considered by the algorithm since generation 0.
+     */
+    public GeneticExecution(ExamInstance instance, ExamsSchedule examsSchedule, GeneticParameters geneticParameters,
+                            GeneticLogger geneticLogger, HashSet<Individual> elite) {
+        this.geneticParameters = geneticParameters;
+
+        Individual individualPrime = new Enconder().encodeListExams(examsSchedule);
+        FitnessCache fitnessCache = geneticParameters.getFitnessCacheSize() > 0 ?
+                new FitnessCache(geneticParameters.getFitnessCacheSize()) : null;
+        Function<ExamsSchedule, FitnessFunction> fitnessFunctionFactory = schedule -> fitnessCache == null ?
+                new LinearFitnessFunction(schedule) :
+                new CachedFitnessFunction(new LinearFitnessFunction(schedule), fitnessCache);
+        this.fitnessFunction = fitnessFunctionFactory.apply(examsSchedule);
+        geneticLogger.setFitnessCache(fitnessCache);
+
+        if (geneticParameters.getIslands() > 1) {
+            int islands = geneticParameters.getIslands();
+            int islandPopulationSize = geneticParameters.getPopulationSize() / islands;
+            List<FitnessFunction> islandFunctions = ParallelFitnessEvaluator.createContexts(instance, fitnessFunction,
+                    fitnessFunctionFactory, islands);
+            List<GeneticOperators> islandOperators = new ArrayList<>();
+            for (int i = 0; i < islands; i++) {
+                islandOperators.add(new GeneticOperators(islandPopulationSize, geneticParameters));
+            }
+            this.geneticCore = null;
+            this.evaluator = null;
+            this.islandCore = new IslandGeneticCore(individualPrime, islandPopulationSize, islandOperators,
+                    islandFunctions, geneticLogger, geneticParameters.getMigrationInterval(),
+                    geneticParameters.getMigrants(), geneticParameters.getMigrationTopology(), elite);
+        }
+        else {
+            GeneticOperators geneticOperators = new GeneticOperators(geneticParameters.getPopulationSize(),
+                    geneticParameters);
+            this.islandCore = null;
+            this.geneticCore = new GeneticCore(individualPrime, geneticParameters.getPopulationSize(),
+                    geneticOperators, geneticLogger, elite);
+            this.evaluator = geneticParameters.getEvaluationThreads() > 1 ?
+                    ParallelFitnessEvaluator.createFor(instance, fitnessFunction, fitnessFunctionFactory,
+                            geneticParameters.getEvaluationThreads()) : null;
+            geneticCore.setParallelEvaluator(evaluator);
+        }
+    }
+
+    /**
+     * Runs the algorithm. The evaluation threads, if any, are stopped once it finishes.
+     * @return The best individual found.
+     */
+    public Individual run() {
+        if (islandCore != null) {
+            return islandCore.geneticAlgorithm(geneticParameters.getMutationProbability(),
+                    geneticParameters.getCrossoverProbability(), geneticParameters.getGenerations(),
+                    geneticParameters.getLoggingFrequency());
+        }
+        try {
+            return geneticCore.geneticAlgorithm(geneticParameters.getMutationProbability(),
+                    geneticParameters.getCrossoverProbability(), fitnessFunction,
+                    geneticParameters.getGenerations(), geneticParameters.getLoggingFrequency());
+        } finally {
+            if (evaluator != null) {
+                evaluator.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the fitness function of the execution.
+     * @return The fitness function linked to the schedule of the execution.
+     */
+    public FitnessFunction getFitnessFunction() {
+        return fitnessFunction;
+    }
+
+    /**
+     * Returns the current population.
+     * @return The current population. With several islands, the individuals of all of them.
+     */
+    public List<Individual> getPopulation() {
+        return islandCore != null ? islandCore.getPopulation() : geneticCore.getPopulation();
+    }
+
+    /**
+     * Returns the logged data written by {@code GeneticLogger}.
+     * @return Logged data written by the {@code GeneticLogger}.
+     */
+    public String getLogging() {
+        return islandCore != null ? islandCore.getLogging() : geneticCore.getLogging();
+    }
+
+    /**
+     * Returns the logged data to generate the fitness graph.
+     * @return the logged data to generate the fitness graph.
+     */
+    public String getFitnessGraphData() {
+        return islandCore != null ? islandCore.getFitnessGraphData() : geneticCore.getFitnessGraphData();
+    }
+}
@@ -2,8 +2,11 @@ package geneticAlgorithm;
 
 import geneticAlgorithm.fitnessFunctions.FitnessFunction;
 import greedyAlgorithm.ChromosomeDecoder;
+import greedyAlgorithm.DecodingCheckpoint;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -24,11 +27,11 @@ import java.util.List;
 public class Individual {
 
     /**
-     * List of integer representing a state of the problem.
+     * Array of exam ids representing a state of the problem. It is never modified.
      *
      * @see Enconder
      */
-    private final List<Integer> chromosome;
+    private final int[] chromosome;
 
     /**
      * Fitness Score assigned to this individual. Null if not computed yet.
@@ -36,19 +39,86 @@ public class Individual {
     private Double fitnessScore;
 
     /**
-     * Constructor for the class
-     * @param chromosome List of integer representing a state of the problem.
+     * 64-bit FNV-1a hash of the {@code chromosome}. Zero if not computed yet.
      */
-    public Individual(List<Integer> chromosome) {
-        this.chromosome = new ArrayList<>(chromosome);
+    private volatile long chromosomeHash;
+
+    /**
+     * Already decoded individuals from which this one was derived. The decoder can reuse their checkpoints for the
+     * genes this individual shares with them. It is released once the individual is decoded. If its fitness is
+     * taken from a {@code FitnessCache} instead, it is kept, so its own children can still resume from them.
+     */
+    private List<Individual> parents;
+
+    /**
+     * States of the decoder at regular positions of the {@code chromosome}. Empty if the individual was not decoded
+     * or the checkpoints are disabled.
+     *
+     * @see ChromosomeDecoder
+     */
+    private List<DecodingCheckpoint> decodingCheckpoints = Collections.emptyList();
+
+    /**
+     * Constructor for the class.
+     *
+     * <p>
+     * The individual takes the ownership of the array, so it must not be modified afterwards.
+     * @param chromosome Array of exam ids representing a state of the problem.
+     */
+    public Individual(int[] chromosome) {
+        this.chromosome = chromosome;
     }
 
     /**
-     * Returns the {@code chromosome}.
-     * @return The {@code chromosome}.
+     * Constructor for the class, for individuals produced from other ones by the genetic operators.
+     *
+     * <p>
+     * The individual takes the ownership of the array, so it must not be modified afterwards.
+     * @param chromosome Array of exam ids representing a state of the problem.
+     * @param origins The individuals from which this one was produced. If some of them were not decoded yet,
+     *                their own parents are taken instead.
      */
-    public List<Integer> getChromosome() {
-        return new ArrayList<>(chromosome);
+    public Individual(int[] chromosome, Individual... origins) {
+        this(chromosome);
+        List<Individual> decodedOrigins = new ArrayList<>();
+        for (Individual origin: origins) {
+            if (! origin.decodingCheckpoints.isEmpty()) {
+                decodedOrigins.add(origin);
+            } else if (origin.parents != null) {
+                decodedOrigins.addAll(origin.parents);
+            }
+        }
+        if (! decodedOrigins.isEmpty()) {
+            this.parents = decodedOrigins;
+        }
+    }
+
+    /**
+     * Returns a copy of the {@code chromosome}, that can be freely modified.
+     *
+     * <p>
+     * For read-only access use {@link #getGene(int)} and {@link #getChromosomeLength()}, which do not copy it.
+     * @return A copy of the {@code chromosome}.
+     */
+    public int[] getChromosome() {
+        return chromosome.clone();
+    }
+
+    /**
+     * Returns a gene of the {@code chromosome}.
+     * @param position The position of the gene in the chromosome.
+     * @return The exam id at the given position of the {@code chromosome}.
+     */
+    public int getGene(int position) {
+        return chromosome[position];
+    }
+
+    /**
+     * Returns the length of the {@code chromosome}.
+     * @return The number of genes of the {@code chromosome}.
+     */
+    public int getChromosomeLength() {
+        return chromosome.length;
     }
 
 
@@ -60,42 +130,100 @@ public class Individual {
     public double getFitnessScore(FitnessFunction fitnessFunction) {
         if (fitnessScore == null) {
             fitnessScore = fitnessFunction.apply(this);
+            if (! decodingCheckpoints.isEmpty()) {
+                parents = null;
+            }
         }
         return fitnessScore;
     }
 
+    /**
+     * Returns the already decoded individuals from which this one was derived.
+     * @return A list with the parents whose checkpoints may be reused, empty if there is none.
+     */
+    public List<Individual> getParents() {
+        return parents == null ? Collections.emptyList() : parents;
+    }
+
+    /**
+     * Returns the checkpoints stored when this individual was decoded.
+     * @return The list of {@code DecodingCheckpoint}, sorted by position. Empty if there is none.
+     */
+    public List<DecodingCheckpoint> getDecodingCheckpoints() {
+        return decodingCheckpoints;
+    }
+
+    /**
+     * Sets the checkpoints of the decoding of this individual.
+     * @param decodingCheckpoints The list of {@code DecodingCheckpoint}, sorted by position.
+     */
+    public void setDecodingCheckpoints(List<DecodingCheckpoint> decodingCheckpoints) {
+        this.decodingCheckpoints = decodingCheckpoints;
+    }
+
+    /**
+     * Checks if the fitness score of the Individual was already computed.
+     * @return true if the {@code fitnessScore} is already known, false otherwise.
+     */
+    public boolean isEvaluated() {
+        return fitnessScore != null;
+    }
+
+
+    /**
+     * Returns a 64-bit FNV-1a hash of the {@code chromosome}.
+     *
+     * <p>
+     * The chromosome cannot change, so the hash is computed only once.
+     * @return The hash of the {@code chromosome}.
+     */
+    public long getChromosomeHash() {
+        if (chromosomeHash == 0) {
+            long hash = 0xcbf29ce484222325L;
+            for (int gene: chromosome) {
+                for (int shift = 0; shift < 32; shift += 8) {
+                    hash ^= (gene >>> shift) & 0xff;
+                    hash *= 0x100000001b3L;
+                }
+            }
+            chromosomeHash = hash == 0 ? 1 : hash;
+        }
+        return chromosomeHash;
+    }
 
     @Override
     public boolean equals(Object obj){
+        if (this == obj) {
+            return true;
+        }
         if (! (obj instanceof Individual)) {
             return false;
         }
         Individual idv = (Individual) obj;
-        if (idv.getChromosome().size() != getChromosome().size()) {
+        if (idv.getChromosomeHash() != getChromosomeHash()) {
             return false;
         }
+        return Arrays.equals(chromosome, idv.chromosome);
+    }
 
-        for (int i = 0; i < getChromosome().size(); i++) {
-            if (! getChromosome().get(i).equals(idv.getChromosome().get(i))){
-                return false;
-            }
-        }
-
-        return true;
+    @Override
+    public int hashCode() {
+        long hash = getChromosomeHash();
+        return (int) (hash ^ (hash >>> 32));
     }
 
     @Override
     public String toString(){
         StringBuilder sb = new StringBuilder();
-        if (chromosome.size() == 0) {
+        if (chromosome.length == 0) {
             return "Individual: []";
         }
         sb.append("Individual: [" );
-        for (int i = 0; i < chromosome.size()-1; i++) {
-            sb.append(chromosome.get(i));
+        for (int i = 0; i < chromosome.length-1; i++) {
+            sb.append(chromosome[i]);
             sb.append(", ");
         }
-        sb.append(chromosome.get(chromosome.size()-1));
+        sb.append(chromosome[chromosome.length-1]);
         sb.append("]");
         return sb.toString();
     }
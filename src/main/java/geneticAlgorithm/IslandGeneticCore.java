@@ -0,0 +1,359 @@
+package geneticAlgorithm;
+
+import geneticAlgorithm.fitnessFunctions.FitnessFunction;
+import geneticAlgorithm.operators.GeneticOperators;
+import logger.dataGetter.fitnessLogger.GeneticLogger;
+import me.tongfei.progressbar.ProgressBar;
+import me.tongfei.progressbar.ProgressBarStyle;
+import utils.random.RandomGenerator;
+
+import java.text.DecimalFormat;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This is the island model of the Genetic Algorithm.
+ *
+ * <p>
+ * The population is split into several sub-populations ("islands"), each one evolved by its own {@link GeneticCore}
+ * with its own {@link GeneticOperators} and fitness function, so that the islands can evolve in parallel threads.
+ * Every {@code migrationInterval} generations the islands stop, and the best {@code migrants} individuals of each one
+ * are copied into other islands following the {@link MigrationTopology}, where they replace the worst individuals.
+ *
+ * <p>
+ * Each island has its own random generator, whose seed is taken from {@link RandomGenerator} when the engine is
+ * created, so a fixed seed still gives reproducible executions.
+ */
+public class IslandGeneticCore {
+
+    /**
+     * The engines that evolve each island.
+     */
+    private final List<GeneticCore> islands;
+
+    /**
+     * The fitness function of each island. None of them can share its {@code ExamsSchedule} with other.
+     */
+    private final List<FitnessFunction> fitnessFunctions;
+
+    /**
+     * The random generator of each island.
+     */
+    private final List<Random> generators;
+
+    /**
+     * Number of generations between two migrations.
+     */
+    private final int migrationInterval;
+
+    /**
+     * Number of individuals sent by each island on every migration.
+     */
+    private final int migrants;
+
+    /**
+     * Islands to which the migrants are sent.
+     */
+    private final MigrationTopology topology;
+
+    /**
+     * Logger for the Genetic Algorithm.
+     */
+    private final GeneticLogger logger;
+
+    /**
+     * Constructor for the class.
+     * @param individualPrime First individual from which the initial populations will be created.
+     * @param islandPopSize Size of the population of each island.
+     * @param geneticOperators Operator configuration for each island.
+     * @param fitnessFunctions Fitness function for each island.
+     * @param geneticLogger The Genetic Logger for the algorithm.
+     * @param migrationInterval Number of generations between two migrations.
+     * @param migrants Number of individuals sent by each island on every migration.
+     * @param topology Islands to which the migrants are sent.
+     */
+    public IslandGeneticCore(Individual individualPrime, int islandPopSize, List<GeneticOperators> geneticOperators,
+                             List<FitnessFunction> fitnessFunctions, GeneticLogger geneticLogger,
+                             int migrationInterval, int migrants, MigrationTopology topology) {
+        this(individualPrime, islandPopSize, geneticOperators, fitnessFunctions, geneticLogger, migrationInterval,
+                migrants, topology, new HashSet<>());
+    }
+
+    /**
+     * Constructor for the class.
+     * @param individualPrime First individual from which the initial populations will be created.
+     * @param islandPopSize Size of the population of each island.
+     * @param geneticOperators Operator configuration for each island.
+     * @param fitnessFunctions Fitness function for each island.
+     * @param geneticLogger The Genetic Logger for the algorithm.
+     * @param migrationInterval Number of generations between two migrations.
+     * @param migrants Number of individuals sent by each island on every migration.
+     * @param topology Islands to which the migrants are sent.
+     * @param elite Set of Individuals that must be considered by the algorithm since generation 0. They are spread
+     *              over the islands.
+     */
+    public IslandGeneticCore(Individual individualPrime, int islandPopSize, List<GeneticOperators> geneticOperators,
+                             List<FitnessFunction> fitnessFunctions, GeneticLogger geneticLogger,
+                             int migrationInterval, int migrants, MigrationTopology topology,
+                             HashSet<Individual> elite) {
+        if (geneticOperators.isEmpty() || geneticOperators.size() != fitnessFunctions.size()) {
+            throw new IllegalArgumentException("Each island needs its own genetic operators and fitness function.");
+        }
+        if (migrationInterval < 1) {
+            throw new IllegalArgumentException("Migration interval must be greater than 0.");
+        }
+        if (migrants < 0 || migrants > islandPopSize) {
+            throw new IllegalArgumentException("The number of migrants must be between 0 and the island population size.");
+        }
+
+        List<HashSet<Individual>> islandElites = new ArrayList<>();
+        for (int i = 0; i < geneticOperators.size(); i++) {
+            islandElites.add(new HashSet<>());
+        }
+        int i = 0;
+        for (Individual idv: elite) {
+            islandElites.get(i % islandElites.size()).add(idv);
+            i++;
+        }
+
+        this.islands = new ArrayList<>();
+        this.generators = new ArrayList<>();
+        for (int j = 0; j < geneticOperators.size(); j++) {
+            islands.add(new GeneticCore(individualPrime, islandPopSize, geneticOperators.get(j), new GeneticLogger(),
+                    islandElites.get(j)));
+            generators.add(new Random(RandomGenerator.getGenerator().nextLong()));
+        }
+
+        this.fitnessFunctions = new ArrayList<>(fitnessFunctions);
+        this.migrationInterval = migrationInterval;
+        this.migrants = migrants;
+        this.topology = topology;
+        this.logger = geneticLogger;
+    }
+
+    /**
+     * Island model skeleton.
+     * @param mutationProbability Probability for new individuals to mutate.
+     * @param crossingProbability Probability for the selected individuals to be crossed.
+     * @param maxIterations Maximum number of iterations that the algorithm will do.
+     * @param loggingFrequency Number of iterations after which the algorithm logs its state.
+     * @return The best individual of all the islands.
+     */
+    public Individual geneticAlgorithm(double mutationProbability, double crossingProbability, int maxIterations,
+                                       int loggingFrequency) {
+
+        long initialTime = System.currentTimeMillis();
+        int genCounter = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(islands.size());
+
+        try (ProgressBar pb =
+                     new ProgressBar("GA", maxIterations, 1500, System.out, ProgressBarStyle.UNICODE_BLOCK,
+                             "", 1L, false, (DecimalFormat)null, ChronoUnit.SECONDS, 0L, Duration.ZERO)) {
+
+            runEpoch(executor, 0, mutationProbability, crossingProbability);
+            Individual bestIndividual = logState(genCounter, initialTime, true);
+
+            while (genCounter < maxIterations) {
+                int generations = Math.min(migrationInterval, maxIterations - genCounter);
+                runEpoch(executor, generations, mutationProbability, crossingProbability);
+                genCounter += generations;
+
+                if (genCounter < maxIterations) {
+                    migrate();
+                }
+
+                boolean log = genCounter / loggingFrequency != (genCounter - generations) / loggingFrequency;
+                bestIndividual = logState(genCounter, initialTime, log);
+
+                pb.stepBy(generations);
+                pb.setExtraMessage("BF: " + String.format("%.2f", getBestFitness(bestIndividual)) +
+                        ", AF: " + String.format("%.2f", averageFitness()));
+            }
+
+            System.out.println("\n" + "[Gen: " + genCounter
+                    + ", Best Fitness: " + String.format("%.2f", getBestFitness(bestIndividual))
+                    + ", Avg Fitness: " + String.format("%.2f", averageFitness()) + "]");
+            System.out.println(bestIndividual);
+
+            return bestIndividual;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Evolves all the islands in parallel for a number of generations.
+     *
+     * <p>
+     * With zero generations the islands just evaluate their current population.
+     * @param executor The executor in which the islands are evolved.
+     * @param generations The number of generations that each island will evolve.
+     * @param mutationProbability Probability for new individuals to mutate.
+     * @param crossingProbability Probability for the selected individuals to be crossed.
+     */
+    private void runEpoch(ExecutorService executor, int generations, double mutationProbability,
+                          double crossingProbability) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < islands.size(); i++) {
+            GeneticCore island = islands.get(i);
+            FitnessFunction fitnessFunction = fitnessFunctions.get(i);
+            Random generator = generators.get(i);
+            tasks.add(() -> {
+                RandomGenerator.bindToCurrentThread(generator);
+                try {
+                    for (int gen = 0; gen < generations; gen++) {
+                        island.nextGeneration(fitnessFunction, mutationProbability, crossingProbability);
+                    }
+                    island.averageFitness(fitnessFunction);
+                } finally {
+                    RandomGenerator.unbindFromCurrentThread();
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future: executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The evolution of the islands was interrupted.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not evolve the islands: " + e.getCause().getMessage(),
+                    e.getCause());
+        }
+    }
+
+    /**
+     * Sends the best individuals of each island to its neighbours, as stated by {@code topology}.
+     *
+     * <p>
+     * All the migrants are chosen before any island receives them.
+     */
+    private void migrate() {
+        if (migrants == 0 || islands.size() < 2) {
+            return;
+        }
+
+        List<List<Individual>> emigrants = new ArrayList<>();
+        for (int i = 0; i < islands.size(); i++) {
+            emigrants.add(islands.get(i).getBestIndividuals(migrants, fitnessFunctions.get(i)));
+        }
+
+        for (int i = 0; i < islands.size(); i++) {
+            List<Individual> immigrants = new ArrayList<>();
+            if (topology == MigrationTopology.RING) {
+                immigrants.addAll(emigrants.get((i - 1 + islands.size()) % islands.size()));
+            } else {
+                for (int j = 0; j < islands.size(); j++) {
+                    if (j != i) {
+                        immigrants.addAll(emigrants.get(j));
+                    }
+                }
+            }
+            islands.get(i).receiveMigrants(immigrants, fitnessFunctions.get(i));
+        }
+    }
+
+    /**
+     * Adds the state of the algorithm to the logger.
+     * @param genCounter Current generation.
+     * @param initialTime Time in which the algorithm started, in milliseconds.
+     * @param fullLog True if the state must also be written in the log, not only in the fitness graph data.
+     * @return The current best individual of all the islands.
+     */
+    private Individual logState(int genCounter, long initialTime, boolean fullLog) {
+        Individual bestIndividual = getBestIndividual();
+        double averageFitness = averageFitness();
+        double bestFitness = getBestFitness(bestIndividual);
+
+        logger.addAverageFitnessOnIt(genCounter, bestFitness, averageFitness,
+                (System.currentTimeMillis() - initialTime)/1000);
+        if (fullLog) {
+            logger.log(genCounter, bestIndividual, averageFitness, fitnessFunctions.get(0));
+        }
+        return bestIndividual;
+    }
+
+    /**
+     * Returns the best individual of all the islands.
+     * @return The individual with less fitness value of all the islands.
+     */
+    private Individual getBestIndividual() {
+        Individual bestIndividual = null;
+        double bestFitnessFound = Double.POSITIVE_INFINITY;
+
+        for (int i = 0; i < islands.size(); i++) {
+            Individual islandBest = islands.get(i).getBestIndividual(fitnessFunctions.get(i));
+            double idvFitness = islandBest.getFitnessScore(fitnessFunctions.get(i));
+            if (idvFitness < bestFitnessFound) {
+                bestFitnessFound = idvFitness;
+                bestIndividual = islandBest;
+            }
+        }
+
+        return bestIndividual;
+    }
+
+    /**
+     * Returns the fitness of an individual that was already evaluated in some island.
+     * @param individual The individual whose fitness will be returned.
+     * @return The fitness value of the individual.
+     */
+    private double getBestFitness(Individual individual) {
+        return individual.getFitnessScore(fitnessFunctions.get(0));
+    }
+
+    /**
+     * Computes the average fitness of all the islands.
+     * @return The average fitness of all the individuals of all the islands.
+     */
+    private double averageFitness() {
+        double accumulator = 0;
+        int size = 0;
+        for (int i = 0; i < islands.size(); i++) {
+            accumulator += islands.get(i).averageFitness(fitnessFunctions.get(i)) *
+                    islands.get(i).getPopulation().size();
+            size += islands.get(i).getPopulation().size();
+        }
+        return accumulator / size;
+    }
+
+    /**
+     * Returns the current population of all the islands.
+     * @return A list with the individuals of all the islands.
+     */
+    public List<Individual> getPopulation() {
+        List<Individual> population = new ArrayList<>();
+        for (GeneticCore island: islands) {
+            population.addAll(island.getPopulation());
+        }
+        return population;
+    }
+
+    /**
+     * Returns the logged data written by {@code GeneticLogger}.
+     * @return Logged data written by the {@code GeneticLogger}.
+     */
+    public String getLogging() {
+        return logger.getLoggedData();
+    }
+
+    /**
+     * Returns the logged data to generate the fitness graph.
+     * @return the logged data to generate the fitness graph.
+     */
+    public String getFitnessGraphData() {
+        return logger.getFitnessGraphData();
+    }
+}
@@ -0,0 +1,17 @@
+package geneticAlgorithm;
+
+/**
+ * States which islands of an {@link IslandGeneticCore} send their best individuals to each island.
+ */
+public enum MigrationTopology {
+
+    /**
+     * Each island sends its migrants to the next one, the last one sending them to the first.
+     */
+    RING,
+
+    /**
+     * Each island sends its migrants to all the other islands.
+     */
+    FULL
+}
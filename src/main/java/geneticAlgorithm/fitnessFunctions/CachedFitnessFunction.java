@@ -0,0 +1,57 @@
+package geneticAlgorithm.fitnessFunctions;
+
+import geneticAlgorithm.Individual;
+import greedyAlgorithm.ChromosomeDecoder;
+
+/**
+ * This is a {@link FitnessFunction} that looks for the fitness of the individuals in a {@link FitnessCache} before
+ * computing it.
+ *
+ * <p>
+ * The fitness value only depends on the chromosome, so individuals with a chromosome that was already evaluated skip
+ * the {@link ChromosomeDecoder} entirely. This is common in the late generations, when the population converges.
+ *
+ * <p>
+ * An individual found in the cache is not decoded, so it stores no decoding checkpoints. It keeps its decoded
+ * parents instead, and its children resume their decoding from the checkpoints of those.
+ */
+public class CachedFitnessFunction implements FitnessFunction {
+
+    /**
+     * The fitness function used when the value is not in the cache.
+     */
+    private final FitnessFunction fitnessFunction;
+
+    /**
+     * The cache of fitness values. It can be shared with other {@code CachedFitnessFunction}.
+     */
+    private final FitnessCache cache;
+
+    /**
+     * Constructor for the class.
+     * @param fitnessFunction The fitness function used when the value is not in the cache.
+     * @param cache The cache of fitness values.
+     */
+    public CachedFitnessFunction(FitnessFunction fitnessFunction, FitnessCache cache) {
+        this.fitnessFunction = fitnessFunction;
+        this.cache = cache;
+    }
+
+    @Override
+    public double apply(Individual a) {
+        Double fitness = cache.get(a);
+        if (fitness == null) {
+            fitness = fitnessFunction.apply(a);
+            cache.put(a, fitness);
+        }
+        return fitness;
+    }
+
+    /**
+     * Returns the cache used by the function.
+     * @return The {@code FitnessCache} of the function.
+     */
+    public FitnessCache getCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,180 @@
+package geneticAlgorithm.fitnessFunctions;
+
+import geneticAlgorithm.Individual;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This is a bounded cache of fitness values, shared by all the individuals of a population.
+ *
+ * <p>
+ * The entries are keyed by chromosome, so two different {@link Individual} instances with the same chromosome share
+ * the same entry.
+ *
+ * <p>
+ * It can be shared by several threads. The entries are split in segments by the hash of the chromosome, each one with
+ * its own lock, so threads evaluating different individuals seldom wait for each other. When a segment is full its
+ * least recently used entry is evicted.
+ *
+ * @see CachedFitnessFunction
+ */
+public class FitnessCache {
+
+    /**
+     * Maximum number of segments of the cache.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Maximum number of entries of the cache.
+     */
+    private final int maxSize;
+
+    /**
+     * Segments of the cache. Their sizes add up to {@code maxSize}.
+     */
+    private final Segment[] segments;
+
+    /**
+     * Constructor for the class.
+     * @param maxSize Maximum number of entries of the cache.
+     */
+    public FitnessCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Fitness cache size must be greater than 0.");
+        }
+        this.maxSize = maxSize;
+        this.segments = new Segment[Math.min(MAX_SEGMENTS, maxSize)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(maxSize / segments.length + (i < maxSize % segments.length ? 1 : 0));
+        }
+    }
+
+    /**
+     * Returns the cached fitness value of an individual.
+     * @param individual The individual whose fitness is wanted.
+     * @return The fitness value of an individual with the same chromosome, or null if it is not in the cache.
+     */
+    public Double get(Individual individual) {
+        return segmentOf(individual).get(individual);
+    }
+
+    /**
+     * Stores the fitness value of an individual.
+     *
+     * <p>
+     * The entry is keyed by a bare copy of the individual, so the cache does not keep alive its decoding checkpoints.
+     * @param individual The individual that was evaluated.
+     * @param fitness The fitness value of {@code individual}.
+     */
+    public void put(Individual individual, double fitness) {
+        segmentOf(individual).put(new Individual(individual.getChromosome()), fitness);
+    }
+
+    /**
+     * Returns the number of times a fitness value was found in the cache.
+     * @return The number of hits of the cache.
+     */
+    public long getHits() {
+        long hits = 0;
+        for (Segment segment: segments) {
+            hits += segment.getHits();
+        }
+        return hits;
+    }
+
+    /**
+     * Returns the number of times a fitness value was not found in the cache.
+     * @return The number of misses of the cache.
+     */
+    public long getMisses() {
+        long misses = 0;
+        for (Segment segment: segments) {
+            misses += segment.getMisses();
+        }
+        return misses;
+    }
+
+    /**
+     * Returns the maximum number of entries of the cache.
+     * @return The maximum number of entries of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the segment in which the entry of an individual is stored.
+     *
+     * <p>
+     * It uses the high bits of the chromosome hash, since the low ones pick the bucket inside the segment.
+     * @param individual The individual whose segment is wanted.
+     * @return The segment of the entry of {@code individual}.
+     */
+    private Segment segmentOf(Individual individual) {
+        return segments[Math.floorMod((int) (individual.getChromosomeHash() >>> 32), segments.length)];
+    }
+
+    /**
+     * This is a segment of the cache, a bounded LRU map with its own lock and counters.
+     */
+    private static class Segment {
+
+        /**
+         * Maximum number of entries of the segment.
+         */
+        private final int maxSize;
+
+        /**
+         * Cached fitness values, in access order.
+         */
+        private final LinkedHashMap<Individual, Double> entries;
+
+        /**
+         * Number of times a fitness value was found in the segment.
+         */
+        private long hits;
+
+        /**
+         * Number of times a fitness value was not found in the segment.
+         */
+        private long misses;
+
+        /**
+         * Constructor for the class.
+         * @param maxSize Maximum number of entries of the segment.
+         */
+        Segment(int maxSize) {
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Individual, Double> eldest) {
+                    return size() > Segment.this.maxSize;
+                }
+            };
+        }
+
+        synchronized Double get(Individual individual) {
+            Double fitness = entries.get(individual);
+            if (fitness == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            return fitness;
+        }
+
+        synchronized void put(Individual key, double fitness) {
+            entries.put(key, fitness);
+        }
+
+        synchronized long getHits() {
+            return hits;
+        }
+
+        synchronized long getMisses() {
+            return misses;
+        }
+    }
+}
@@ -3,12 +3,6 @@ package geneticAlgorithm.fitnessFunctions;
 import domain.ExamsSchedule;
 import domain.constraints.counter.ConstraintCounter;
 import domain.constraints.counter.DefaultConstraintCounter;
-import domain.constraints.types.softConstraints.SoftConstraint;
-import domain.constraints.types.softConstraints.fullySoftConstraints.NumericalComplexityPenalization;
-import domain.constraints.types.softConstraints.fullySoftConstraints.RestingIntervalPenalization;
-import domain.constraints.types.softConstraints.fullySoftConstraints.SameCourseDifferentDayConstraint;
-import domain.constraints.types.softConstraints.fullySoftConstraints.UnscheduledExamsConstraint;
-import domain.constraints.types.softConstraints.userConstraints.*;
 import geneticAlgorithm.Individual;
 import domain.configuration.WeightConfigurer;
 import greedyAlgorithm.ChromosomeDecoder;
@@ -38,6 +32,12 @@ public class LinearFitnessFunction implements FitnessFunction {
      */
     private final ChromosomeDecoder decoder;
 
+    /**
+     * Weight of each type of constraint, indexed by the ordinal of its {@code ConstraintType}. It is read from the
+     * {@link WeightConfigurer} when the function is created.
+     */
+    private final double[] weights;
+
 
     /**
      * Constructor for the class.
@@ -46,6 +46,7 @@ public class LinearFitnessFunction implements FitnessFunction {
     public LinearFitnessFunction(ExamsSchedule examsSchedule){
         this.decoder = new ChromosomeDecoder(examsSchedule.getConfigurer());
         this.examsSchedule = examsSchedule;
+        this.weights = examsSchedule.getConfigurer().getWeightConfigurer().getWeightVector();
     }
 
     @Override
@@ -58,9 +59,7 @@ public class LinearFitnessFunction implements FitnessFunction {
 
         //Count constraints
         ConstraintCounter counter = new DefaultConstraintCounter();
-        for (SoftConstraint constraint: examsSchedule.getConstraints()) {
-                constraint.checkConstraint(counter);
-        }
+        examsSchedule.countConstraints(counter);
 
         //Do the formula.
         return formula(counter);
@@ -72,28 +71,6 @@ public class LinearFitnessFunction implements FitnessFunction {
      * @return the final fitness value.
      */
     private double formula(ConstraintCounter counter) {
-        WeightConfigurer wc = examsSchedule.getConfigurer().getWeightConfigurer();
-
-        return counter.getCountOfTimeDisplacementConstraint()
-                        * wc.getConstraintWeight(TimeDisplacementConstraint.CONSTRICTION_ID) +
-                counter.getCountOfDaysBannedConstraint()
-                        * wc.getConstraintWeight(DayBannedConstraint.CONSTRICTION_ID) +
-                counter.getCountOfSameDayConstraint()
-                        * wc.getConstraintWeight(SameDayConstraint.CONSTRICTION_ID) +
-                counter.getCountOfUnscheduledExamsConstraint()
-                        * wc.getConstraintWeight(UnscheduledExamsConstraint.CONSTRICTION_ID) +
-                counter.getCountOfDifferentDayConstraint()
-                        * wc.getConstraintWeight(DifferentDayConstraint.CONSTRICTION_ID) +
-                counter.getCountOrderExamsConstraint()
-                        * wc.getConstraintWeight(OrderExamsConstraint.CONSTRICTION_ID) +
-                counter.getCountSameCourseDifferentDayConstraint()
-                        * wc.getConstraintWeight(SameCourseDifferentDayConstraint.CONSTRICTION_ID) +
-                counter.getCountRestingIntervalPenalization()
-                        * wc.getConstraintWeight(RestingIntervalPenalization.CONSTRICTION_ID) +
-                counter.getNumericalComplexityPenalization()
-                        * wc.getConstraintWeight(NumericalComplexityPenalization.CONSTRICTION_ID) +
-                counter.getCountDayIntervalConstraint()
-                        * wc.getConstraintWeight(DayIntervalConstraint.CONSTRICTION_ID);
-
+        return counter.weightedSum(weights);
     }
 }
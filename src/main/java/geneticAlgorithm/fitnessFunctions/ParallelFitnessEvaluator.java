@@ -0,0 +1,154 @@
+package geneticAlgorithm.fitnessFunctions;
+
+import domain.ExamInstance;
+import domain.ExamsSchedule;
+import geneticAlgorithm.Individual;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * This evaluates sets of {@link Individual} concurrently.
+ *
+ * <p>
+ * Decoding a chromosome modifies the {@link ExamsSchedule} linked to the fitness function, so each thread owns its
+ * own evaluation context: a {@link FitnessFunction} with its own {@code ExamsSchedule}, exams and constraints. The
+ * individuals are handed to the threads dynamically, since the cost of decoding a chromosome depends on how much
+ * repairing it needs.
+ *
+ * <p>
+ * The fitness value of an individual does not depend on which context evaluates it, nor on the order of the
+ * evaluations, so the results are the same ones that a sequential evaluation would give.
+ */
+public class ParallelFitnessEvaluator {
+
+    /**
+     * Fitness functions used by the threads, one for each of them.
+     */
+    private final List<FitnessFunction> contexts;
+
+    /**
+     * Pool of threads in which the evaluations are done.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructor for the class.
+     * @param contexts List of fitness functions, one per thread. None of them can share its {@code ExamsSchedule}
+     *                 with other.
+     */
+    public ParallelFitnessEvaluator(List<FitnessFunction> contexts) {
+        if (contexts.isEmpty()) {
+            throw new IllegalArgumentException("At least one evaluation context is needed.");
+        }
+        this.contexts = new ArrayList<>(contexts);
+        this.executor = Executors.newFixedThreadPool(contexts.size(), runnable -> {
+            Thread thread = new Thread(runnable, "fitness-evaluator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates an evaluator for an instance of the problem.
+     * @param instance The instance of the problem from which the main {@code ExamsSchedule} was created.
+     * @param fitnessFunction The fitness function linked to the main {@code ExamsSchedule}.
+     * @param fitnessFunctionFactory Function that builds a fitness function for a new {@code ExamsSchedule}.
+     * @param threads The number of threads of the evaluator.
+     * @return A new {@code ParallelFitnessEvaluator} with {@code threads} evaluation contexts.
+     * @see #createContexts(ExamInstance, FitnessFunction, Function, int)
+     */
+    public static ParallelFitnessEvaluator createFor(ExamInstance instance, FitnessFunction fitnessFunction,
+                                                     Function<ExamsSchedule, FitnessFunction> fitnessFunctionFactory,
+                                                     int threads) {
+        return new ParallelFitnessEvaluator(createContexts(instance, fitnessFunction, fitnessFunctionFactory,
+                threads));
+    }
+
+    /**
+     * Builds independent evaluation contexts for an instance of the problem.
+     *
+     * <p>
+     * The first context is the provided fitness function, the rest of them get a new {@code ExamsSchedule} of the
+     * instance, which does not parse the input again.
+     * @param instance The instance of the problem from which the main {@code ExamsSchedule} was created.
+     * @param fitnessFunction The fitness function linked to the main {@code ExamsSchedule}.
+     * @param fitnessFunctionFactory Function that builds a fitness function for a new {@code ExamsSchedule}.
+     * @param amount The number of contexts to be returned.
+     * @return A list of {@code amount} fitness functions, each one with its own {@code ExamsSchedule}.
+     * @see ExamInstance#createSchedule()
+     */
+    public static List<FitnessFunction> createContexts(ExamInstance instance, FitnessFunction fitnessFunction,
+                                                       Function<ExamsSchedule, FitnessFunction> fitnessFunctionFactory,
+                                                       int amount) {
+        List<FitnessFunction> contexts = new ArrayList<>();
+        contexts.add(fitnessFunction);
+        for (int i = 1; i < amount; i++) {
+            contexts.add(fitnessFunctionFactory.apply(instance.createSchedule()));
+        }
+        return contexts;
+    }
+
+    /**
+     * Computes the fitness score of all the individuals of the list that were not evaluated yet.
+     *
+     * <p>
+     * The method returns once all of them are evaluated.
+     * @param individuals The individuals to be evaluated.
+     */
+    public void evaluate(List<Individual> individuals) {
+        Set<Individual> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Individual> pending = new ArrayList<>();
+        for (Individual idv: individuals) {
+            if (! idv.isEvaluated() && seen.add(idv)) {
+                pending.add(idv);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger nextIndex = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < Math.min(contexts.size(), pending.size()); i++) {
+            FitnessFunction context = contexts.get(i);
+            tasks.add(() -> {
+                int index;
+                while ((index = nextIndex.getAndIncrement()) < pending.size()) {
+                    pending.get(index).getFitnessScore(context);
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> future: executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The evaluation of the population was interrupted.");
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not evaluate the population: " + e.getCause().getMessage(),
+                    e.getCause());
+        }
+    }
+
+    /**
+     * Stops the threads of the evaluator. It cannot be used after calling this method.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
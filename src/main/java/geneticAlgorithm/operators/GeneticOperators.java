@@ -1,13 +1,18 @@
 package geneticAlgorithm.operators;
 
+import domain.configuration.GeneticParameters;
 import geneticAlgorithm.operators.crossing.CrossingOperator;
+import geneticAlgorithm.operators.crossing.CycleCrossoverOperator;
 import geneticAlgorithm.operators.crossing.OXCrossoverOperator;
+import geneticAlgorithm.operators.crossing.PMXCrossoverOperator;
 import geneticAlgorithm.operators.mutation.MutationOperator;
 import geneticAlgorithm.operators.mutation.MutationSwap;
 import geneticAlgorithm.operators.replacement.ReplacementOperator;
 import geneticAlgorithm.operators.replacement.ReplacementOperatorClassic;
 import geneticAlgorithm.operators.selection.RouletteSelection;
 import geneticAlgorithm.operators.selection.SelectionOperator;
+import geneticAlgorithm.operators.selection.StochasticUniversalSampling;
+import geneticAlgorithm.operators.selection.TournamentSelection;
 
 /**
  * This groups the operators to be passed as parameter to the Genetic Algorithm.
@@ -53,6 +58,58 @@ public class GeneticOperators {
         this.replacementOperator = new ReplacementOperatorClassic(populationSize/25);
     }
 
+    /**
+     * Constructor providing the default configuration of operators, except for the ones chosen in the
+     * genetic parameters.
+     * @param populationSize Size of the population to be handled by the operators.
+     * @param geneticParameters The genetic parameters with the names of the chosen operators.
+     */
+    public GeneticOperators(int populationSize, GeneticParameters geneticParameters) {
+        this(populationSize);
+        this.selectionOperator = createSelectionOperator(geneticParameters);
+        this.crossingOperator = createCrossingOperator(geneticParameters);
+    }
+
+    /**
+     * Creates the selection operator stated in the genetic parameters.
+     * @param geneticParameters The genetic parameters of the execution.
+     * @return A new instance of the chosen selection operator.
+     * @throws IllegalArgumentException If the name of the operator is not known.
+     */
+    private static SelectionOperator createSelectionOperator(GeneticParameters geneticParameters) {
+        switch (geneticParameters.getSelectionOperator()) {
+            case "roulette":
+                return new RouletteSelection();
+            case "tournament":
+                return new TournamentSelection(geneticParameters.getTournamentSize());
+            case "sus":
+                return new StochasticUniversalSampling();
+            default:
+                throw new IllegalArgumentException("Unknown selection operator: " +
+                        geneticParameters.getSelectionOperator() + ". Valid values are: roulette, tournament, sus");
+        }
+    }
+
+    /**
+     * Creates the crossing operator stated in the genetic parameters.
+     * @param geneticParameters The genetic parameters of the execution.
+     * @return A new instance of the chosen crossing operator.
+     * @throws IllegalArgumentException If the name of the operator is not known.
+     */
+    private static CrossingOperator createCrossingOperator(GeneticParameters geneticParameters) {
+        switch (geneticParameters.getCrossoverOperator()) {
+            case "ox":
+                return new OXCrossoverOperator();
+            case "pmx":
+                return new PMXCrossoverOperator();
+            case "cycle":
+                return new CycleCrossoverOperator();
+            default:
+                throw new IllegalArgumentException("Unknown crossover operator: " +
+                        geneticParameters.getCrossoverOperator() + ". Valid values are: ox, pmx, cycle");
+        }
+    }
+
     /**
      * Constructor fully parametrized.
      * @param selectionOperator The selection operator.
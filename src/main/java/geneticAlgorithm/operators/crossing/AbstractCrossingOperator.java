@@ -0,0 +1,86 @@
+package geneticAlgorithm.operators.crossing;
+
+import geneticAlgorithm.Individual;
+import utils.random.RandomGenerator;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * This is the base class for the crossing operators over permutations of exam ids.
+ *
+ * <p>
+ * It provides the random generator used to choose the crossing points, and helpers to track the genes without
+ * boxing them or scanning lists. The genes are tracked by their {@link GeneIndex}, so the lookup tables are never much
+ * larger than the chromosome, whatever the exam ids are.
+ */
+public abstract class AbstractCrossingOperator implements CrossingOperator {
+
+    //For testing
+    private final Random generator;
+
+    /**
+     * Default Constructor for the class.
+     */
+    public AbstractCrossingOperator() {
+        this(null);
+    }
+
+    /**
+     * Constructor specifying the random object used to get the points for
+     * the crossing at the crossing method.
+     * @param generatorWithSeed A {@code Random} object.
+     */
+    public AbstractCrossingOperator(Random generatorWithSeed) {
+        this.generator = generatorWithSeed;
+    }
+
+    /**
+     * Provides a generator.
+     *
+     * <p>
+     * This mehtod is useful in case of using a seed.
+     * @return A random object.
+     */
+    public Random chooseGenerator() {
+        if (this.generator == null){
+            return RandomGenerator.getGenerator();
+        }
+        return this.generator;
+    }
+
+    /**
+     * Returns the array of positions of the genes of an individual.
+     * @param individual The individual whose genes will be located.
+     * @param geneIndex The index of the genes of {@code individual}.
+     * @return An array whose position {@code geneIndex.indexOf(g)} holds the position of the gene g in the chromosome
+     * of {@code individual}.
+     */
+    protected static int[] positionsOf(Individual individual, GeneIndex geneIndex) {
+        int[] positions = new int[geneIndex.size()];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < individual.getChromosomeLength(); i++) {
+            positions[geneIndex.indexOf(individual.getGene(i))] = i;
+        }
+        return positions;
+    }
+
+    /**
+     * Returns two random positions of a chromosome, sorted.
+     * @param chromosomeLength The length of the chromosome.
+     * @return An array with the lower and upper crossing points, both included in the crossed segment.
+     */
+    protected int[] chooseCrossingPoints(int chromosomeLength) {
+        Random generator = chooseGenerator();
+        int lowerLimit = generator.nextInt(chromosomeLength);
+        int upperLimit = generator.nextInt(chromosomeLength);
+
+        //Reorder limits
+        if (lowerLimit > upperLimit) {
+            int aux = lowerLimit;
+            lowerLimit = upperLimit;
+            upperLimit = aux;
+        }
+        return new int[] {lowerLimit, upperLimit};
+    }
+}
@@ -0,0 +1,62 @@
+package geneticAlgorithm.operators.crossing;
+
+import geneticAlgorithm.Individual;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This operators implements de Cycle Crossing algorithm (CX) to reproduce {@code Individual}.
+ *
+ * <p>
+ * The positions of the chromosome are split into cycles: starting at a position, the gene of the second parent is
+ * looked up in the first one, and so on until the starting position is reached again. The first child takes the
+ * genes of the first parent in the even cycles and the ones of the second parent in the odd cycles, and the second
+ * child the other way round. Every gene keeps the position it had in one of the parents.
+ *
+ * <p>
+ * It does not use random numbers.
+ */
+public class CycleCrossoverOperator extends AbstractCrossingOperator {
+
+    /**
+     * Method with the logic to perform the Cycle Crossing algorithm.
+     * @param a First individual.
+     * @param b Second individual.
+     * @return A List with the two children of crossing a and b, being the first one the child that keeps the first
+     * cycle of a.
+     */
+    @Override
+    public List<Individual> crossover(Individual a, Individual b) {
+        int chromosomeLength = a.getChromosomeLength();
+        int[] firstChromosome = new int[chromosomeLength];
+        int[] secondChromosome = new int[chromosomeLength];
+        GeneIndex geneIndex = new GeneIndex(a);
+        int[] positionsInA = positionsOf(a, geneIndex);
+        boolean[] visited = new boolean[chromosomeLength];
+
+        boolean fromA = true;
+        for (int start = 0; start < chromosomeLength; start++) {
+            if (visited[start]) {
+                continue;
+            }
+
+            int position = start;
+            do {
+                visited[position] = true;
+                firstChromosome[position] = fromA ? a.getGene(position) : b.getGene(position);
+                secondChromosome[position] = fromA ? b.getGene(position) : a.getGene(position);
+                position = positionsInA[geneIndex.indexOf(b.getGene(position))];
+            } while (position != start);
+
+            fromA = !fromA;
+        }
+
+        List<Individual> childs = new ArrayList<>(2);
+        childs.add(new Individual(firstChromosome, a, b));
+        childs.add(new Individual(secondChromosome, a, b));
+
+        return childs;
+    }
+
+}
@@ -0,0 +1,87 @@
+package geneticAlgorithm.operators.crossing;
+
+import geneticAlgorithm.Individual;
+
+import java.util.Arrays;
+
+/**
+ * This maps the genes of a chromosome, which are exam ids, to dense indexes from 0 to the number of genes, so the
+ * crossing operators can keep their lookup tables in arrays of the size of the chromosome.
+ *
+ * <p>
+ * When the ids are close to each other the index of a gene is its offset from the smallest one, as in
+ * {@code ExamsSchedule}. When they are sparse, for instance with a single very large id, the index is the position of
+ * the gene among the sorted genes, so no array of the size of the ids is ever allocated.
+ */
+class GeneIndex {
+
+    /**
+     * Largest ratio between the range of the ids and the number of genes for which the offsets are used.
+     */
+    private static final int MAX_OFFSET_SPREAD = 4;
+
+    /**
+     * Smallest gene of the chromosome.
+     */
+    private final int minGene;
+
+    /**
+     * Genes of the chromosome in ascending order. Null if the index of a gene is its offset from {@code minGene}.
+     */
+    private final int[] sortedGenes;
+
+    /**
+     * Number of indexes.
+     */
+    private final int size;
+
+    /**
+     * Constructor for the class.
+     * @param individual The individual whose genes will be indexed.
+     */
+    GeneIndex(Individual individual) {
+        int length = individual.getChromosomeLength();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, individual.getGene(i));
+            max = Math.max(max, individual.getGene(i));
+        }
+        this.minGene = length == 0 ? 0 : min;
+
+        long range = length == 0 ? 0 : (long) max - min + 1;
+        if (range <= (long) MAX_OFFSET_SPREAD * length) {
+            this.sortedGenes = null;
+            this.size = (int) range;
+        }
+        else {
+            int[] genes = new int[length];
+            for (int i = 0; i < length; i++) {
+                genes[i] = individual.getGene(i);
+            }
+            Arrays.sort(genes);
+            this.sortedGenes = genes;
+            this.size = length;
+        }
+    }
+
+    /**
+     * Returns the index of a gene.
+     * @param gene A gene of the indexed chromosome.
+     * @return The index of {@code gene}, between 0 and {@link #size()}, excluded.
+     */
+    int indexOf(int gene) {
+        if (sortedGenes == null) {
+            return gene - minGene;
+        }
+        return Arrays.binarySearch(sortedGenes, gene);
+    }
+
+    /**
+     * Returns the number of indexes.
+     * @return The size that an array needs to be indexed with {@link #indexOf(int)}.
+     */
+    int size() {
+        return size;
+    }
+}
@@ -1,7 +1,6 @@
 package geneticAlgorithm.operators.crossing;
 
 import geneticAlgorithm.Individual;
-import utils.random.RandomGenerator;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -9,12 +8,13 @@ import java.util.Random;
 
 /**
  * This operators implements de OX Crossing algorithm to reproduce {@code Individual}.
+ *
+ * <p>
+ * Each child keeps a random segment of one parent, and the rest of its genes are taken in order from the other one.
+ * The genes already used are tracked in a boolean array indexed by their {@link GeneIndex}, so each child is built
+ * without scanning any list.
  */
-public class OXCrossoverOperator implements CrossingOperator {
-
-    //For testing
-    private Random generator;
-
+public class OXCrossoverOperator extends AbstractCrossingOperator {
 
     /**
      * Default Constructor for the class.
@@ -27,56 +27,45 @@ public class OXCrossoverOperator implements CrossingOperator {
      * @param generatorWithSeed A {@code Random} object.
      */
     public OXCrossoverOperator(Random generatorWithSeed) {
-        this.generator = generatorWithSeed;
+        super(generatorWithSeed);
     }
 
     /**
      * Method with the logic to perform the OX Crossing algorithm.
      * @param a First individual.
      * @param b Second individual.
-     * @return A List of individuals, the result of crossing a and b one or multiple times.
+     * @return A List with the two children of crossing a and b, being the first one the child that keeps the segment
+     * of a.
      */
     @Override
     public List<Individual> crossover(Individual a, Individual b) {
-        List<Individual> childs = new ArrayList<>();
-        childs.add(cross(a, b));
+        int[] limits = chooseCrossingPoints(a.getChromosomeLength());
+
+        List<Individual> childs = new ArrayList<>(2);
+        childs.add(cross(a, b, limits[0], limits[1]));
+        childs.add(cross(b, a, limits[0], limits[1]));
 
         return childs;
     }
 
     /**
      * Method with the logic to perform the OX Crossing algorithm
-     * @param a First individual.
-     * @param b Second individual.
+     * @param a Individual whose segment is kept.
+     * @param b Individual from which the rest of genes are taken.
+     * @param lowerLimit First position of the segment.
+     * @param upperLimit Last position of the segment.
      * @return A new Individual, the result of crossing a and b.
      */
-    private Individual cross(Individual a, Individual b) {
-
-        // Get the Chromosomes
-        List<Integer> aChromosome = a.getChromosome();
-        List<Integer> bChromosome = b.getChromosome();
-        List<Integer> newChromosome = new ArrayList<>(aChromosome.size());
-        for (int i = 0; i < aChromosome.size(); i++) {
-            newChromosome.add(0);
-        }
-        //Generate two random positions
-        Random generator = chooseGenerator();
-        int chromosomeLength = aChromosome.size();
-        int lowerLimit = generator.nextInt(chromosomeLength);
-        int upperLimit = generator.nextInt(chromosomeLength);
-        
-        //Reorder limits
-        if (lowerLimit > upperLimit) {
-            int aux = lowerLimit;
-            lowerLimit = upperLimit;
-            upperLimit = aux;
-        }
+    private Individual cross(Individual a, Individual b, int lowerLimit, int upperLimit) {
 
+        int chromosomeLength = a.getChromosomeLength();
+        int[] newChromosome = new int[chromosomeLength];
 
-        ArrayList<Integer> usedValues = new ArrayList<>();
+        GeneIndex geneIndex = new GeneIndex(a);
+        boolean[] usedValues = new boolean[geneIndex.size()];
         for (int i = lowerLimit; i <= upperLimit; i++) {
-            newChromosome.set(i, aChromosome.get(i));
-            usedValues.add(aChromosome.get(i));
+            newChromosome[i] = a.getGene(i);
+            usedValues[geneIndex.indexOf(a.getGene(i))] = true;
         }
 
 
@@ -84,7 +73,7 @@ public class OXCrossoverOperator implements CrossingOperator {
         int cIndex = 0;
         while (cIndex < chromosomeLength && currentPos<chromosomeLength) {
             // Check if we must ignore value
-            if (usedValues.contains(bChromosome.get(cIndex))){
+            if (usedValues[geneIndex.indexOf(b.getGene(cIndex))]){
                 cIndex++;
                 continue;
             }
@@ -97,7 +86,7 @@ public class OXCrossoverOperator implements CrossingOperator {
                 break;
 
             //Place number in actual pointer
-            newChromosome.set(currentPos, bChromosome.get(cIndex));
+            newChromosome[currentPos] = b.getGene(cIndex);
 
             //Move pointers
             cIndex++;
@@ -105,23 +94,7 @@ public class OXCrossoverOperator implements CrossingOperator {
 
         }
 
-        return new Individual(newChromosome);
+        return new Individual(newChromosome, a, b);
     }
 
-    /**
-     * Provides a generator.
-     *
-     * <p>
-     * This mehtod is useful in case of using a seed.
-     * @return A random object.
-     */
-    public Random chooseGenerator() {
-        if (this.generator == null){
-            return RandomGenerator.getGenerator();
-        }
-        return this.generator;
-
-    }
-
-
 }
@@ -0,0 +1,89 @@
+package geneticAlgorithm.operators.crossing;
+
+import geneticAlgorithm.Individual;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This operators implements de PMX (Partially Mapped) Crossing algorithm to reproduce {@code Individual}.
+ *
+ * <p>
+ * Each child keeps a random segment of one parent, and the rest of positions take the gene of the other parent. If
+ * that gene is already in the segment, the mapping between both parents in the segment is followed until a gene not
+ * used is found. The positions of the genes are stored in an array indexed by their {@link GeneIndex}, so no list is
+ * scanned.
+ */
+public class PMXCrossoverOperator extends AbstractCrossingOperator {
+
+    /**
+     * Default Constructor for the class.
+     */
+    public PMXCrossoverOperator(){}
+
+    /**
+     * Constructor specifying the random object used to get the points for
+     * the crossing at the crossing method.
+     * @param generatorWithSeed A {@code Random} object.
+     */
+    public PMXCrossoverOperator(Random generatorWithSeed) {
+        super(generatorWithSeed);
+    }
+
+    /**
+     * Method with the logic to perform the PMX Crossing algorithm.
+     * @param a First individual.
+     * @param b Second individual.
+     * @return A List with the two children of crossing a and b, being the first one the child that keeps the segment
+     * of a.
+     */
+    @Override
+    public List<Individual> crossover(Individual a, Individual b) {
+        int[] limits = chooseCrossingPoints(a.getChromosomeLength());
+
+        List<Individual> childs = new ArrayList<>(2);
+        childs.add(cross(a, b, limits[0], limits[1]));
+        childs.add(cross(b, a, limits[0], limits[1]));
+
+        return childs;
+    }
+
+    /**
+     * Method with the logic to perform the PMX Crossing algorithm.
+     * @param a Individual whose segment is kept.
+     * @param b Individual from which the rest of genes are taken.
+     * @param lowerLimit First position of the segment.
+     * @param upperLimit Last position of the segment.
+     * @return A new Individual, the result of crossing a and b.
+     */
+    private Individual cross(Individual a, Individual b, int lowerLimit, int upperLimit) {
+        int chromosomeLength = a.getChromosomeLength();
+        int[] newChromosome = new int[chromosomeLength];
+        GeneIndex geneIndex = new GeneIndex(a);
+        int[] positionsInA = positionsOf(a, geneIndex);
+
+        for (int i = lowerLimit; i <= upperLimit; i++) {
+            newChromosome[i] = a.getGene(i);
+        }
+
+        for (int i = 0; i < chromosomeLength; i++) {
+            if (i == lowerLimit) {
+                i = upperLimit;
+                continue;
+            }
+
+            int gene = b.getGene(i);
+            int position = positionsInA[geneIndex.indexOf(gene)];
+            // Follow the mapping while the gene is already in the segment.
+            while (position >= lowerLimit && position <= upperLimit) {
+                gene = b.getGene(position);
+                position = positionsInA[geneIndex.indexOf(gene)];
+            }
+            newChromosome[i] = gene;
+        }
+
+        return new Individual(newChromosome, a, b);
+    }
+
+}
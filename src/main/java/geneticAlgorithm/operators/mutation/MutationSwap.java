@@ -3,7 +3,6 @@ package geneticAlgorithm.operators.mutation;
 import geneticAlgorithm.Individual;
 import utils.random.RandomGenerator;
 
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -19,13 +18,13 @@ public class MutationSwap implements MutationOperator {
     @Override
     public Individual mutation(Individual individual) {
 
-        if (individual.getChromosome().size() < 2){
+        if (individual.getChromosomeLength() < 2){
             throw new IllegalArgumentException("Cannot use mutation swap for individuals with less that 2 as chromosome size");
         }
         Random generator = RandomGenerator.getGenerator();
-        List<Integer> cromosome = individual.getChromosome();
+        int[] cromosome = individual.getChromosome();
 
-        int cromosomeLength = cromosome.size();
+        int cromosomeLength = cromosome.length;
 
         int pos0 = generator.nextInt(cromosomeLength);
         int pos1 = generator.nextInt(cromosomeLength);
@@ -33,11 +32,11 @@ public class MutationSwap implements MutationOperator {
             pos1 = generator.nextInt(cromosomeLength);
         }
 
-        Integer aux = cromosome.get(pos0);
+        int aux = cromosome[pos0];
 
-        cromosome.set(pos0, cromosome.get(pos1));
-        cromosome.set(pos1, aux);
+        cromosome[pos0] = cromosome[pos1];
+        cromosome[pos1] = aux;
 
-        return new Individual(cromosome);
+        return new Individual(cromosome, individual);
     }
 }
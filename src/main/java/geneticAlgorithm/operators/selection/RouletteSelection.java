@@ -12,6 +12,16 @@ import java.util.List;
  */
 public class RouletteSelection implements SelectionOperator {
 
+    /**
+     * Population for which {@code cumulativeValues} was computed.
+     */
+    private List<Individual> preparedPopulation;
+
+    /**
+     * Accumulated normalized values of the roulette, in population order.
+     */
+    private double[] cumulativeValues;
+
     /**
      * Constructor for the class.
      */
@@ -20,22 +30,28 @@ public class RouletteSelection implements SelectionOperator {
     }
 
     /**
-     * Implementation of the Roulette Selection algorithm.
+     * Computes the roulette of the population.
      *
      * <p>
      * This algorithm prioritizes the individuals with most fitness value. In our case the values to
-     * be used are f(x) = 1 / fitnessValueOfTheIndividual.
+     * be used are f(x) = 1 / fitnessValueOfTheIndividual. Those values are normalized and accumulated, so that each
+     * selection is just a binary search over them.
      * @param population The population of individuals.
      * @param fitnessFunction The fitness function of the algorithm.
-     * @return An individual of the population.
      */
     @Override
-    public Individual selection(List<Individual> population, FitnessFunction fitnessFunction) {
-
-        // Default result is last individual.
-        // (just to avoid problems with rounding errors)
-        Individual selected = population.get(population.size() - 1);
+    public void prepare(List<Individual> population, FitnessFunction fitnessFunction) {
+        cumulativeValues = computeRoulette(population, fitnessFunction);
+        preparedPopulation = population;
+    }
 
+    /**
+     * Computes the accumulated normalized values of the roulette.
+     * @param population The population of individuals.
+     * @param fitnessFunction The fitness function of the algorithm.
+     * @return An array whose position i holds the probability of selecting any of the first i+1 individuals.
+     */
+    static double[] computeRoulette(List<Individual> population, FitnessFunction fitnessFunction) {
         // Determine all of the fitness values
         double[] fValues = new double[population.size()];
         for (int i = 0; i < population.size(); i++) {
@@ -50,26 +66,54 @@ public class RouletteSelection implements SelectionOperator {
                 fValues[i] = 1 / fValues[i];
             }
 
-            //fValues[i] = Math.pow(fValues[i], 1.5);
-
         }
         // Normalize the fitness values
         fValues = Utils.normalizeDoubleArray(fValues);
 
-        double prob = RandomGenerator.getGenerator().nextDouble();
         double accumulator = 0.0;
         for (int i = 0; i < fValues.length; i++) {
-            // Are at last element so assign by default
-            // in case there are rounding issues with the normalized values
             accumulator += fValues[i];
-            if (prob <= accumulator) {
-                selected = population.get(i);
-                break;
+            fValues[i] = accumulator;
+        }
+        return fValues;
+    }
+
+    /**
+     * Implementation of the Roulette Selection algorithm.
+     *
+     * <p>
+     * It uses the roulette computed by {@code prepare}. In case it was not called for this population, it is called
+     * now. If the population is modified in place {@code prepare} must be called again.
+     * @param population The population of individuals.
+     * @param fitnessFunction The fitness function of the algorithm.
+     * @return An individual of the population.
+     */
+    @Override
+    public Individual selection(List<Individual> population, FitnessFunction fitnessFunction) {
+        if (preparedPopulation != population || cumulativeValues.length != population.size()) {
+            prepare(population, fitnessFunction);
+        }
+
+        double prob = RandomGenerator.getGenerator().nextDouble();
+
+        // First individual whose accumulated value reaches prob.
+        int low = 0;
+        int high = cumulativeValues.length - 1;
+        if (prob > cumulativeValues[high]) {
+            // Default result is last individual.
+            // (just to avoid problems with rounding errors)
+            return population.get(high);
+        }
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (cumulativeValues[middle] < prob) {
+                low = middle + 1;
+            } else {
+                high = middle;
             }
         }
 
-        //selected.incDescendants(); // Not sure if storing the descendants would be useful.
-        return selected;
+        return population.get(low);
     }
 
 }
@@ -21,4 +21,15 @@ public interface SelectionOperator {
      */
     Individual selection(List<Individual> population, FitnessFunction fitnessFunction);
 
+    /**
+     * Hook called once per generation, before selecting any individual from the population.
+     *
+     * <p>
+     * Operators can use it to precompute data over the whole population, instead of doing it on every selection.
+     * By default it does nothing.
+     * @param population The population of individuals from which the next selections will be done.
+     * @param fitnessFunction The fitness function of the algorithm.
+     */
+    default void prepare(List<Individual> population, FitnessFunction fitnessFunction) {}
+
 }
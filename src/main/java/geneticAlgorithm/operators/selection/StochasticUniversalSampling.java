@@ -0,0 +1,107 @@
+package geneticAlgorithm.operators.selection;
+
+import geneticAlgorithm.Individual;
+import geneticAlgorithm.fitnessFunctions.FitnessFunction;
+import utils.random.RandomGenerator;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This is an implementation of the Stochastic Universal Sampling algorithm.
+ *
+ * <p>
+ * It uses the same roulette as {@link RouletteSelection}, but instead of spinning it once per selection, it places
+ * as many equally spaced pointers as individuals in the population and spins them once, picking all the parents in a
+ * single pass over the roulette. The picked parents are then shuffled and handed out one by one, and a new pass is
+ * done when all of them were handed out.
+ *
+ * <p>
+ * This reduces the variance of the number of times each individual is selected with respect to the roulette.
+ */
+public class StochasticUniversalSampling implements SelectionOperator {
+
+    /**
+     * Population for which {@code cumulativeValues} was computed.
+     */
+    private List<Individual> preparedPopulation;
+
+    /**
+     * Accumulated normalized values of the roulette, in population order.
+     */
+    private double[] cumulativeValues;
+
+    /**
+     * Indexes of the individuals picked in the last pass, in the order in which they will be handed out.
+     */
+    private int[] selectedIndexes;
+
+    /**
+     * Number of individuals of {@code selectedIndexes} already handed out.
+     */
+    private int nextSelected;
+
+    /**
+     * Computes the roulette of the population and discards the parents picked for the previous one.
+     * @param population The population of individuals.
+     * @param fitnessFunction The fitness function of the algorithm.
+     */
+    @Override
+    public void prepare(List<Individual> population, FitnessFunction fitnessFunction) {
+        cumulativeValues = RouletteSelection.computeRoulette(population, fitnessFunction);
+        preparedPopulation = population;
+        selectedIndexes = new int[population.size()];
+        nextSelected = selectedIndexes.length;
+    }
+
+    /**
+     * Returns the next parent picked by the last pass over the roulette, doing a new pass if needed.
+     *
+     * <p>
+     * In case {@code prepare} was not called for this population, it is called now.
+     * @param population The population of individuals.
+     * @param fitnessFunction The fitness function of the algorithm.
+     * @return An individual of the population.
+     */
+    @Override
+    public Individual selection(List<Individual> population, FitnessFunction fitnessFunction) {
+        if (preparedPopulation != population || cumulativeValues.length != population.size()) {
+            prepare(population, fitnessFunction);
+        }
+
+        if (nextSelected == selectedIndexes.length) {
+            samplePass();
+        }
+
+        return population.get(selectedIndexes[nextSelected++]);
+    }
+
+    /**
+     * Picks a whole set of parents with a single spin of equally spaced pointers.
+     */
+    private void samplePass() {
+        Random generator = RandomGenerator.getGenerator();
+        int pointers = selectedIndexes.length;
+        double step = 1.0 / pointers;
+        double pointer = generator.nextDouble() * step;
+
+        int index = 0;
+        for (int i = 0; i < pointers; i++) {
+            // Default result is last individual, in case there are rounding issues with the normalized values.
+            while (index < cumulativeValues.length - 1 && cumulativeValues[index] < pointer) {
+                index++;
+            }
+            selectedIndexes[i] = index;
+            pointer += step;
+        }
+
+        for (int i = pointers - 1; i > 0; i--) {
+            int j = generator.nextInt(i + 1);
+            int aux = selectedIndexes[i];
+            selectedIndexes[i] = selectedIndexes[j];
+            selectedIndexes[j] = aux;
+        }
+        nextSelected = 0;
+    }
+
+}
@@ -0,0 +1,61 @@
+package geneticAlgorithm.operators.selection;
+
+import geneticAlgorithm.Individual;
+import geneticAlgorithm.fitnessFunctions.FitnessFunction;
+import utils.random.RandomGenerator;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * This is an implementation of the Tournament Selection algorithm.
+ *
+ * <p>
+ * Each selection takes {@code tournamentSize} random individuals of the population, with replacement, and returns the
+ * one with less fitness value. The cost of each pick does not depend on the population size. It does not save any
+ * fitness evaluation, since {@code GeneticCore} evaluates the whole population on every generation anyway.
+ */
+public class TournamentSelection implements SelectionOperator {
+
+    /**
+     * Number of individuals that take part in each tournament.
+     */
+    private final int tournamentSize;
+
+    /**
+     * Constructor for the class.
+     * @param tournamentSize Number of individuals that take part in each tournament.
+     */
+    public TournamentSelection(int tournamentSize) {
+        if (tournamentSize < 1) {
+            throw new IllegalArgumentException("Tournament size must be greater than 0.");
+        }
+        this.tournamentSize = tournamentSize;
+    }
+
+    /**
+     * Implementation of the Tournament Selection algorithm.
+     * @param population The population of individuals.
+     * @param fitnessFunction The fitness function of the algorithm.
+     * @return The best individual of a random sample of {@code tournamentSize} individuals of the population.
+     */
+    @Override
+    public Individual selection(List<Individual> population, FitnessFunction fitnessFunction) {
+        Random generator = RandomGenerator.getGenerator();
+
+        Individual winner = population.get(generator.nextInt(population.size()));
+        double winnerFitness = winner.getFitnessScore(fitnessFunction);
+
+        for (int i = 1; i < tournamentSize; i++) {
+            Individual contender = population.get(generator.nextInt(population.size()));
+            double contenderFitness = contender.getFitnessScore(fitnessFunction);
+            if (contenderFitness < winnerFitness) {
+                winner = contender;
+                winnerFitness = contenderFitness;
+            }
+        }
+
+        return winner;
+    }
+
+}
@@ -0,0 +1,74 @@
+package geneticAlgorithm.output;
+
+import domain.ExamsSchedule;
+import domain.constraints.counter.DefaultConstraintCounter;
+import domain.constraints.types.softConstraints.SoftConstraint;
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.entities.Exam;
+import domain.entities.ExamDatesComparator;
+import geneticAlgorithm.Individual;
+import greedyAlgorithm.ChromosomeDecoder;
+import main.PrettyTimetable;
+import utils.Utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Default implementation of {@code writeSchedules} for the plain text formats, meant for machine consumers.
+ *
+ * <p>
+ * Each individual is decoded, and its hours improved with {@link PrettyTimetable}, as for the Excel output. Then the
+ * exams, ordered by date and hour, and the user constraints, in their input order and with their last evaluation, are
+ * handed to {@code writeSchedule}, so the inheritors only need to format them. No workbook is ever built.
+ */
+public abstract class AbstractTextScheduleWriter implements ScheduleWriter {
+
+    @Override
+    public void writeSchedules(HashSet<Individual> outputIndividuals, ExamsSchedule examsSchedule, String directory,
+                               String outputFileName) {
+
+        ChromosomeDecoder decoder = new ChromosomeDecoder(examsSchedule.getConfigurer());
+        PrettyTimetable prettyTimetable = new PrettyTimetable();
+
+        int counter = 0;
+        for (Individual idv: outputIndividuals) {
+            examsSchedule.resetScheduling();
+            decoder.decode(idv, examsSchedule);
+            prettyTimetable.orderScheduling(examsSchedule);
+
+            List<Exam> exams = new ArrayList<>(examsSchedule.getExams());
+            exams.sort(new ExamDatesComparator());
+
+            examsSchedule.verifyConstraints(new DefaultConstraintCounter());
+            List<UserConstraint> userConstraints = new ArrayList<>();
+            for (SoftConstraint constraint: examsSchedule.getConstraints()) {
+                if (constraint instanceof UserConstraint) {
+                    userConstraints.add((UserConstraint) constraint);
+                }
+            }
+
+            String subDirectory = directory + outputFileName + "_" + counter;
+            Utils.createDirectory(subDirectory);
+            String pathPrefix = subDirectory + "/" + outputFileName + "_" + counter;
+            try {
+                writeSchedule(exams, userConstraints, pathPrefix);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not write the schedule at path: [" + pathPrefix + "]");
+            }
+            counter++;
+        }
+    }
+
+    /**
+     * Writes a decoded schedule.
+     * @param exams The exams, ordered by date and hour. Unscheduled exams go last.
+     * @param userConstraints The user constraints, already verified over the schedule.
+     * @param pathPrefix The path of the output files, without extension.
+     * @throws IOException if the output files could not be written.
+     */
+    protected abstract void writeSchedule(List<Exam> exams, List<UserConstraint> userConstraints, String pathPrefix)
+            throws IOException;
+}
@@ -0,0 +1,78 @@
+package geneticAlgorithm.output;
+
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.entities.Exam;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This writes each schedule in two CSV files.
+ *
+ * <p>
+ * {@code <prefix>_exams.csv} has one row per exam: {@code exam_id,date,start,end}, with ISO-8601 dates and hours, that
+ * are empty if the exam was not scheduled. {@code <prefix>_constraints.csv} has one row per user constraint:
+ * {@code index,constraint_id,exam_ids,hard,fulfilled}, where {@code index} is the position of the constraint in the
+ * input file and {@code exam_ids} are separated by semicolons.
+ */
+public class CsvScheduleWriter extends AbstractTextScheduleWriter {
+
+    @Override
+    protected void writeSchedule(List<Exam> exams, List<UserConstraint> userConstraints, String pathPrefix)
+            throws IOException {
+
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(pathPrefix + "_exams.csv"),
+                StandardCharsets.UTF_8)) {
+            writer.write("exam_id,date,start,end");
+            writer.newLine();
+            for (Exam exam: exams) {
+                writer.write(String.valueOf(exam.getId()));
+                writer.write(',');
+                if (exam.isScheduled()) {
+                    writer.write(exam.getDate() + "," + exam.getInitialHour() + ","
+                            + exam.getFinishingHourWithoutExtraTime());
+                }
+                else {
+                    writer.write(",,");
+                }
+                writer.newLine();
+            }
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(pathPrefix + "_constraints.csv"),
+                StandardCharsets.UTF_8)) {
+            writer.write("index,constraint_id,exam_ids,hard,fulfilled");
+            writer.newLine();
+            int index = 0;
+            for (UserConstraint constraint: userConstraints) {
+                writer.write(index++ + "," + escape(constraint.getConstraintID()) + ",");
+                List<Exam> involvedExams = constraint.getInvolvedExams();
+                for (int i = 0; i < involvedExams.size(); i++) {
+                    if (i > 0) {
+                        writer.write(';');
+                    }
+                    writer.write(String.valueOf(involvedExams.get(i).getId()));
+                }
+                writer.write("," + constraint.wasHardified() + "," + constraint.getLastEvaluation());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it is needed.
+     * @param value The value of the field.
+     * @return The value, between quotes and with its quotes doubled if it contains any separator or quote.
+     */
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -9,24 +9,27 @@ import domain.entities.ExamDatesComparator;
 import domain.entities.Interval;
 import domain.parsers.ConstraintParser;
 import domain.parsers.ExamParser;
+import domain.parsers.excelReader.InputRow;
+import domain.parsers.excelReader.InputSheet;
+import domain.parsers.excelReader.InputWorkbook;
 import geneticAlgorithm.Individual;
 import greedyAlgorithm.ChromosomeDecoder;
 import logger.ConsoleLogger;
 import main.PrettyTimetable;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFRow;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import utils.Utils;
 
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
@@ -35,8 +38,24 @@ import java.util.stream.Collectors;
  * <p>
  * It provides the final scheduling as well as the user constraints specifying if they were fulfilled or not
  * in the provided scheduling.
+ *
+ * <p>
+ * The files are written with POI's streaming {@link SXSSFWorkbook}, that only keeps a window of
+ * {@value #ROW_WINDOW} rows of each sheet in memory and flushes the rest to temporary files. Decoding the individuals
+ * changes the {@code ExamsSchedule}, so the workbooks are filled one by one, but their compression and writing to
+ * the output directory is done concurrently.
  */
-public class ExcelWriter {
+public class ExcelWriter implements ScheduleWriter {
+
+    /**
+     * Number of rows of each sheet that are kept in memory while a workbook is filled.
+     */
+    private static final int ROW_WINDOW = 100;
+
+    /**
+     * Maximum number of Excel files that are written concurrently.
+     */
+    private static final int MAX_WRITING_THREADS = 4;
 
     /**
      * Exam parser instance used in the execution.
@@ -55,27 +74,82 @@ public class ExcelWriter {
 
     /**
      * This writes the provided individuals to Excel files. One per individual
+     *
+     * <p>
+     * If one of the files cannot be created, the ones already started are still written before the failure is thrown.
      * @param outputIndividuals The {@code Individual} instances, that lead to the final scheduling to be outputted.
      * @param examsSchedule The {@code DataHandler} instance over which the individuals will be decoded.
      * @param directory The output directory.
      * @param outputFileName The name prefix of the output file.
      */
-    public void excelWrite(HashSet<Individual> outputIndividuals, ExamsSchedule examsSchedule,
+    @Override
+    public void writeSchedules(HashSet<Individual> outputIndividuals, ExamsSchedule examsSchedule,
                                   String directory, String outputFileName) {
 
         ChromosomeDecoder decoder = new ChromosomeDecoder(examsSchedule.getConfigurer());
         PrettyTimetable prettyTimetable = new PrettyTimetable();
 
+        int threads = Math.min(MAX_WRITING_THREADS, Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "excel-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<?>> writings = new ArrayList<>();
+        RuntimeException failure = null;
+        try {
+            int counter = 0;
+            for (Individual idv: outputIndividuals) {
+                SXSSFWorkbook workbook = createIndividualWorkbook(examsSchedule, decoder, prettyTimetable, idv);
+                try {
+                    String path = createOutputPath(directory, outputFileName, counter++);
+                    writings.add(executor.submit(() -> writeWorkbook(workbook, path)));
+                } catch (RuntimeException e) {
+                    workbook.dispose();
+                    throw e;
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            executor.shutdown();
+        }
 
-
-        int counter = 0;
-        for (Individual idv: outputIndividuals) {
-            writeIndividualToExcel(examsSchedule, directory, outputFileName, decoder, prettyTimetable, counter++, idv);
+        for (Future<?> writing: writings) {
+            try {
+                writing.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The writing of the output Excel files was interrupted.");
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() :
+                            new IllegalStateException(e.getCause().getMessage(), e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
     public void writeIndividualToExcel(ExamsSchedule examsSchedule, String directory, String outputFileName,
                                        ChromosomeDecoder decoder, PrettyTimetable prettyTimetable, int counter, Individual idv) {
+        writeWorkbook(createIndividualWorkbook(examsSchedule, decoder, prettyTimetable, idv),
+                createOutputPath(directory, outputFileName, counter));
+    }
+
+    /**
+     * Decodes an individual and fills a workbook with the resulting schedule.
+     * @param examsSchedule The {@code ExamsSchedule} over which the individual will be decoded.
+     * @param decoder The decoder of the individuals.
+     * @param prettyTimetable The timetable used to order the schedule.
+     * @param idv The individual to be written.
+     * @return The filled workbook, that has not been written yet.
+     */
+    private SXSSFWorkbook createIndividualWorkbook(ExamsSchedule examsSchedule, ChromosomeDecoder decoder,
+                                                   PrettyTimetable prettyTimetable, Individual idv) {
         examsSchedule.resetScheduling();
         decoder.decode(idv, examsSchedule);
         prettyTimetable.orderScheduling(examsSchedule);
@@ -84,8 +158,8 @@ public class ExcelWriter {
         HashMap<String, List<SoftConstraint>> verifiedConstraints = examsSchedule.verifyConstraints(constraintCounter);
         Comparator<Exam> examComparator = new ExamDatesComparator();
         finalResult.sort(examComparator);
-        parseExamListToExcel(directory, outputFileName, counter, finalResult,
-                verifiedConstraints, examsSchedule.getConfigurer().getDateTimeConfigurer().getExamDatesWithTimes());
+        return createWorkbook(finalResult, verifiedConstraints,
+                examsSchedule.getConfigurer().getDateTimeConfigurer().getExamDatesWithTimes());
     }
 
     /**
@@ -99,19 +173,57 @@ public class ExcelWriter {
      */
     public void parseExamListToExcel(String directory, String outputFileName, int counter, List<Exam> finalResult, HashMap<String,
             List<SoftConstraint>> verifiedConstraints, HashMap<LocalDate, Interval> calendar) {
-        XSSFWorkbook workbook = new XSSFWorkbook();
-        examParser.parseToExcel(finalResult, workbook);
-        constraintParser.parseToExcel(verifiedConstraints, workbook);
-        writeCalendar(workbook, calendar);
+        writeWorkbook(createWorkbook(finalResult, verifiedConstraints, calendar),
+                createOutputPath(directory, outputFileName, counter));
+    }
+
+    /**
+     * Fills a new streaming workbook with the schedule, the constraints and the calendar.
+     * @param finalResult The List of exams to be written.
+     * @param verifiedConstraints The list of constraints to be written.
+     * @param calendar The calendar of days to be written.
+     * @return The filled workbook. If it cannot be filled, its temporary files are deleted.
+     */
+    private SXSSFWorkbook createWorkbook(List<Exam> finalResult, HashMap<String, List<SoftConstraint>>
+            verifiedConstraints, HashMap<LocalDate, Interval> calendar) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        try {
+            examParser.parseToExcel(finalResult, workbook);
+            constraintParser.parseToExcel(verifiedConstraints, workbook);
+            writeCalendar(workbook, calendar);
+            return workbook;
+        } catch (RuntimeException e) {
+            workbook.dispose();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates the directory of an output Excel file.
+     * @param directory The output directory.
+     * @param outputFileName The name prefix of the output file.
+     * @param counter A counter for the suffix.
+     * @return The path of the output Excel file.
+     */
+    private static String createOutputPath(String directory, String outputFileName, int counter) {
         String subDirectory = directory + outputFileName + "_" + counter;
         Utils.createDirectory(subDirectory);
-        String path = directory + outputFileName + "_" + counter + "/" + outputFileName + "_" + counter + ".xlsx";
+        return subDirectory + "/" + outputFileName + "_" + counter + ".xlsx";
+    }
 
+    /**
+     * Writes a workbook to a file, and deletes its temporary files.
+     * @param workbook The filled workbook.
+     * @param path The path of the output Excel file.
+     */
+    private static void writeWorkbook(SXSSFWorkbook workbook, String path) {
         try (FileOutputStream outputStream = new FileOutputStream(path)) {
             workbook.write(outputStream);
         } catch (IOException e) {
             throw new RuntimeException("No se ha podido escribir el Excel en directorio de salida: "
                     + "[" + path + "]");
+        } finally {
+            workbook.dispose();
         }
     }
 
@@ -120,9 +232,9 @@ public class ExcelWriter {
      * @param workbook the workbook where the calendar must be written.
      * @param calendar the list of days that must be written.
      */
-    public static void writeCalendar(XSSFWorkbook workbook, HashMap<LocalDate, Interval> calendar) {
+    public static void writeCalendar(Workbook workbook, HashMap<LocalDate, Interval> calendar) {
 
-        XSSFSheet sheet = workbook.createSheet("Calendar");
+        Sheet sheet = workbook.createSheet("Calendar");
         int rowCount = 0;
         List<LocalDate> dates = calendar.keySet().stream().sorted().collect(Collectors.toList());
         //for (Map.Entry<LocalDate, Interval> dayTime: calendar.entrySet()) {
@@ -143,7 +255,7 @@ public class ExcelWriter {
 
     }
 
-    private static void writeCalendarHeaders(XSSFRow row) {
+    private static void writeCalendarHeaders(Row row) {
         String[] calendarHeaders = new String[]{"Day" , "Interval start", "Interval end"};
         int cellCounnt = 0;
         for (String header: calendarHeaders) {
@@ -155,22 +267,19 @@ public class ExcelWriter {
 
     /**
      * Parses the dates from the input Excel file.
-     * @param inputDataFilepath filepath to the input Excel, where the exams, constraints and calendar are provided.
+     * @param inputWorkbook The sheets of the input Excel, where the exams, constraints and calendar are provided.
      * @return A map of dates where dates are the keys and the time interval in which exams can be placed the values.
      */
-    public static HashMap<LocalDate, Interval> parseDates(String inputDataFilepath) {
+    public static HashMap<LocalDate, Interval> parseDates(InputWorkbook inputWorkbook) {
         HashMap<LocalDate, Interval> examDates = new HashMap<>();
-        //creating workbook instance that refers to .xls file
-        try (FileInputStream fis = new FileInputStream(inputDataFilepath);
-             Workbook workbook = new XSSFWorkbook(fis)
-        ) {
-            Sheet sheet = workbook.getSheetAt(2);
+        try {
+            InputSheet sheet = inputWorkbook.getSheetAt(InputWorkbook.CALENDAR_SHEET);
 
             int i = -1;
 
             ConsoleLogger.getConsoleLoggerInstance().logInfo("Parsing calendar...");
 
-            for (Row row : sheet) {
+            for (InputRow row : sheet) {
                 if (i<0) {
                     i++;
                     continue;
@@ -180,8 +289,8 @@ public class ExcelWriter {
                     throw new IllegalArgumentException();
                 }
 
-                Interval dayInterval = new Interval(setHourFromExcel(row.getCell(1).getNumericCellValue()),
-                        setHourFromExcel(row.getCell(2).getNumericCellValue()));
+                Interval dayInterval = new Interval(setHourFromExcel(row.getCell(1).getNumericValue()),
+                        setHourFromExcel(row.getCell(2).getNumericValue()));
                 dayInterval.roundBoundsToHours();
                 examDates.put(date, dayInterval);
                 i++;
@@ -189,10 +298,9 @@ public class ExcelWriter {
 
             ConsoleLogger.getConsoleLoggerInstance().logInfo("Calendar days created: " + i);
             return examDates;
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Could not find input Excel file: " + inputDataFilepath);
-        } catch (IOException | NullPointerException | IllegalArgumentException e ) {
-            throw new IllegalArgumentException("Could not parse calendar in input Excel file: " + inputDataFilepath);
+        } catch (NullPointerException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Could not parse calendar in input Excel file: "
+                    + inputWorkbook.getFilepath());
         }
 
     }
@@ -215,12 +323,12 @@ public class ExcelWriter {
      * @param row the Excel row that contains the date to be parsed.
      * @return the corresponding {@code LocalDate} object.
      */
-    private static LocalDate generateDate(Row row) {
+    private static LocalDate generateDate(InputRow row) {
 
         if (Utils.emptyCell(row.getCell(0))){
             throw new IllegalArgumentException();
         }
-        return LocalDate.ofInstant(row.getCell(0).getDateCellValue().toInstant(), ZoneId.systemDefault());
+        return LocalDate.ofInstant(row.getCell(0).getDateValue().toInstant(), ZoneId.systemDefault());
     }
 
 
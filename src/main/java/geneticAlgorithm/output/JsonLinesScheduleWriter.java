@@ -0,0 +1,81 @@
+package geneticAlgorithm.output;
+
+import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
+import domain.entities.Exam;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * This writes each schedule in a newline-delimited JSON file, {@code <prefix>.jsonl}, with one object per line.
+ *
+ * <p>
+ * First there is one object per exam:
+ * {@code {"type":"exam","id":1,"date":"2022-06-01","start":"09:00","end":"11:00"}}, with null date and hours if the
+ * exam was not scheduled. Then one object per user constraint:
+ * {@code {"type":"constraint","index":0,"constraintId":"SD","exams":[1,2],"hard":false,"fulfilled":true}}, where
+ * {@code index} is the position of the constraint in the input file.
+ */
+public class JsonLinesScheduleWriter extends AbstractTextScheduleWriter {
+
+    @Override
+    protected void writeSchedule(List<Exam> exams, List<UserConstraint> userConstraints, String pathPrefix)
+            throws IOException {
+
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(pathPrefix + ".jsonl"),
+                StandardCharsets.UTF_8)) {
+            for (Exam exam: exams) {
+                writer.write("{\"type\":\"exam\",\"id\":" + exam.getId());
+                if (exam.isScheduled()) {
+                    writer.write(",\"date\":\"" + exam.getDate() + "\",\"start\":\"" + exam.getInitialHour()
+                            + "\",\"end\":\"" + exam.getFinishingHourWithoutExtraTime() + "\"}");
+                }
+                else {
+                    writer.write(",\"date\":null,\"start\":null,\"end\":null}");
+                }
+                writer.newLine();
+            }
+
+            int index = 0;
+            for (UserConstraint constraint: userConstraints) {
+                writer.write("{\"type\":\"constraint\",\"index\":" + index++ + ",\"constraintId\":"
+                        + quote(constraint.getConstraintID()) + ",\"exams\":[");
+                List<Exam> involvedExams = constraint.getInvolvedExams();
+                for (int i = 0; i < involvedExams.size(); i++) {
+                    if (i > 0) {
+                        writer.write(',');
+                    }
+                    writer.write(String.valueOf(involvedExams.get(i).getId()));
+                }
+                writer.write("],\"hard\":" + constraint.wasHardified() + ",\"fulfilled\":"
+                        + constraint.getLastEvaluation() + "}");
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Builds a JSON string.
+     * @param value The value of the string.
+     * @return The value between quotes, with the quotes, backslashes and control characters escaped.
+     */
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (char c: value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            }
+            else if (c < 0x20) {
+                builder.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -0,0 +1,24 @@
+package geneticAlgorithm.output;
+
+/**
+ * Formats in which the final schedules can be written, see {@link OutputHandler}.
+ */
+public enum OutputFormat {
+
+    /**
+     * Excel file with the schedule, the user constraints and the calendar, written by {@link ExcelWriter}.
+     */
+    XLSX,
+
+    /**
+     * CSV files with the assignment of each exam and the verdict of each user constraint, written by
+     * {@link CsvScheduleWriter}.
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON file with the assignment of each exam and the verdict of each user constraint, written by
+     * {@link JsonLinesScheduleWriter}.
+     */
+    JSONL
+}
@@ -29,30 +29,30 @@ public class OutputHandler {
     private final ExamsSchedule examsSchedule;
 
     /**
-     * The {@code ExcelWriter} to be used when writing the output.
+     * The {@code ScheduleWriter} to be used when writing the final schedules.
      */
-    private final ExcelWriter excelWriter;
+    private final ScheduleWriter scheduleWriter;
 
     /**
      * Default constructor for the class.
      * @param examsSchedule The {@code DataHandler} instance with all the execution data.
-     * @param outputFileName The name of the output Excel file.
-     * @param excelWriter The {@code ExcelWriter} to be used when writing the output.
+     * @param outputFileName The name prefix of the output schedule files.
+     * @param scheduleWriter The {@code ScheduleWriter} to be used when writing the final schedules.
      */
     public OutputHandler(ExamsSchedule examsSchedule, String outputFileName, String outputDirectory,
-                         ExcelWriter excelWriter) {
+                         ScheduleWriter scheduleWriter) {
         this.outputDirectory = outputDirectory;
         this.examsSchedule = examsSchedule;
         this.outputFilename = outputFileName;
-        this.excelWriter = excelWriter;
+        this.scheduleWriter = scheduleWriter;
 
     }
 
     /**
-     * Writes the output files, the Excel and the log file.
+     * Writes the output files, the schedules and the log file.
      */
     public void writeOutputFiles(HashSet<Individual> outputIndividuals, String loggedData, String fitnessGraphData)  {
-        excelWriter.excelWrite(outputIndividuals, examsSchedule, outputDirectory, outputFilename);
+        scheduleWriter.writeSchedules(outputIndividuals, examsSchedule, outputDirectory, outputFilename);
         writeLogData(loggedData);
         writeFitnessGraphData(fitnessGraphData);
         //writeInputLogData();
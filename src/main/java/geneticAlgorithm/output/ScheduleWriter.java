@@ -0,0 +1,24 @@
+package geneticAlgorithm.output;
+
+import domain.ExamsSchedule;
+import geneticAlgorithm.Individual;
+
+import java.util.HashSet;
+
+/**
+ * This writes the final individuals in a given format. One output per individual.
+ *
+ * @see OutputFormat
+ */
+public interface ScheduleWriter {
+
+    /**
+     * Writes the schedules of the provided individuals.
+     * @param outputIndividuals The {@code Individual} instances, that lead to the final scheduling to be outputted.
+     * @param examsSchedule The {@code ExamsSchedule} instance over which the individuals will be decoded.
+     * @param directory The output directory.
+     * @param outputFileName The name prefix of the output files.
+     */
+    void writeSchedules(HashSet<Individual> outputIndividuals, ExamsSchedule examsSchedule, String directory,
+                        String outputFileName);
+}
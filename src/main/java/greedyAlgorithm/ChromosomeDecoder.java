@@ -3,15 +3,12 @@ package greedyAlgorithm;
 import domain.ExamsSchedule;
 import domain.constraints.types.hardConstraints.HardConstraint;
 import domain.entities.Exam;
-import domain.entities.Interval;
 import geneticAlgorithm.Individual;
 import domain.configuration.Configurer;
 import domain.configuration.DateTimeConfigurer;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * This decodes an {@code Individual} by using a greedy deterministic algorithm over the collection of exams
@@ -21,6 +18,11 @@ import java.util.stream.Collectors;
  * The decoding process takes into account the {@link HardConstraint} that
  * each {@code Exam} has.
  *
+ * <p>
+ * If enabled, the state of the decoding is stored every {@code checkpointInterval} genes as a
+ * {@link DecodingCheckpoint} of the individual. Children of decoded individuals resume the decoding from the last
+ * checkpoint of a parent that lies before their first differing gene, instead of starting from scratch.
+ *
  * @see geneticAlgorithm.fitnessFunctions.FitnessFunction
  */
 public class ChromosomeDecoder {
@@ -30,43 +32,53 @@ public class ChromosomeDecoder {
      */
     private int limitDepth;
 
+    /**
+     * Number of genes between two checkpoints, or 0 if checkpoints are disabled.
+     */
+    private int checkpointInterval;
+
 
     public ChromosomeDecoder(Configurer configurer) {
         limitDepth = configurer.getGeneticParameters().getRepairingAlgorithmMaxDepth();
+        checkpointInterval = configurer.getGeneticParameters().getDecoderCheckpointInterval();
     }
 
     /**
      * Gets the exam list ordered as stated in the chromosome.
-     * @param chromosome The chromosome of the {@code Individual} that we are decoding.
+     * @param individual The {@code Individual} that we are decoding.
      * @param examsSchedule The {@code DataHandler} instance.
-     * @return The list of {@code Exam} to schedule ordered as stated in {@code chromosome}.
+     * @return The list of {@code Exam} to schedule ordered as stated in the chromosome of {@code individual}.
      */
-    private List<Exam> getExamsOrderedForChromosome(List<Integer> chromosome, ExamsSchedule examsSchedule){
-        List<Exam> exams = new ArrayList<>();
+    private List<Exam> getExamsOrderedForChromosome(Individual individual, ExamsSchedule examsSchedule){
+        List<Exam> exams = new ArrayList<>(individual.getChromosomeLength());
 
-        for (Integer examId: chromosome) {
-            exams.add(examsSchedule.getExamById(examId));
+        for (int i = 0; i < individual.getChromosomeLength(); i++) {
+            exams.add(examsSchedule.getExamById(individual.getGene(i)));
         }
 
         return exams;
     }
 
     /**
-     * Initializes a map with all the calendar days as keys and the initial day hour specified at {@link DateTimeConfigurer}.
+     * Initializes the first available second of each calendar day with the initial day hour specified at
+     * {@link DateTimeConfigurer}.
      * @param dateTimeConfigurer The configurer instance.
-     * @return A {@code HashMap} instance with all the calendar days as keys and the initial day hour specified at {@link DateTimeConfigurer}.
+     * @return An array indexed by day index with the initial second of each calendar day.
      * @see DateTimeConfigurer
      */
-    private HashMap<LocalDate, LocalTime> initializeDays(DateTimeConfigurer dateTimeConfigurer) {
-        HashMap<LocalDate, LocalTime> daysTimes = new HashMap<>();
-        for (Map.Entry<LocalDate, Interval> dayTime :dateTimeConfigurer.getExamDatesWithTimes().entrySet()) {
-            daysTimes.put(dayTime.getKey(), dayTime.getValue().getStart());
+    private int[] initializeDays(DateTimeConfigurer dateTimeConfigurer) {
+        int[] daySeconds = new int[dateTimeConfigurer.getCalendarDays().size()];
+        for (int day = 0; day < daySeconds.length; day++) {
+            daySeconds[day] = dateTimeConfigurer.getDayInitialSecond(day);
         }
-        return daysTimes;
+        return daySeconds;
     }
 
     /**
      * Decodes the provided individual.
+     *
+     * <p>
+     * The exams that were not initially scheduled must have been reset before.
      * @param individual The {@code Individual} to be decoded.
      * @param examsSchedule The {@code DataHandler} instance over which the individual will be decoded.
      */
@@ -74,69 +86,148 @@ public class ChromosomeDecoder {
 
         DateTimeConfigurer dateTimeConfigurer = examsSchedule.getConfigurer().getDateTimeConfigurer();
 
+        List<Exam> exams = getExamsOrderedForChromosome(individual, examsSchedule);
 
-        HashMap<LocalDate, LocalTime> daysTimes = initializeDays(dateTimeConfigurer);
+        if (checkpointInterval <= 0) {
+            int[] daySeconds = initializeDays(dateTimeConfigurer);
+            DaysTimesTrail trail = new DaysTimesTrail();
+            for(Exam exam : exams) {
+                classifyExam(examsSchedule, dateTimeConfigurer, daySeconds, trail, exam, 0);
+            }
+            return;
+        }
 
+        List<Exam> unscheduledExams = examsSchedule.getPreUnscheduledExams();
+        List<DecodingCheckpoint> checkpoints = new ArrayList<>();
+        int[] daySeconds;
+        DaysTimesTrail trail = new DaysTimesTrail();
+        int firstGene = 0;
 
-        List<Integer> chromosome = individual.getChromosome();
-        List<Exam> exams = getExamsOrderedForChromosome(chromosome, examsSchedule);
+        List<DecodingCheckpoint> reusableCheckpoints = findReusableCheckpoints(individual);
+        if (reusableCheckpoints.isEmpty()) {
+            daySeconds = initializeDays(dateTimeConfigurer);
+        }
+        else {
+            DecodingCheckpoint resumePoint = reusableCheckpoints.get(reusableCheckpoints.size() - 1);
+            daySeconds = resumePoint.restore(examsSchedule, unscheduledExams);
+            firstGene = resumePoint.getDecodedGenes();
+            checkpoints.addAll(reusableCheckpoints);
+        }
 
+        for (int i = firstGene; i < exams.size(); i++) {
+            if (i > firstGene && i % checkpointInterval == 0) {
+                checkpoints.add(new DecodingCheckpoint(i, unscheduledExams, dateTimeConfigurer, daySeconds));
+            }
+            classifyExam(examsSchedule, dateTimeConfigurer, daySeconds, trail, exams.get(i), 0);
+        }
 
+        individual.setDecodingCheckpoints(checkpoints);
+    }
 
-        for(Exam exam : exams) {
-            classifyExam(examsSchedule, dateTimeConfigurer, daysTimes, exam, 0);
+    /**
+     * Looks for the parent whose checkpoints cover the longest prefix of the chromosome of an individual.
+     * @param individual The {@code Individual} to be decoded.
+     * @return The checkpoints of the best parent that are valid for {@code individual}, sorted by position. Empty if
+     * there is none.
+     */
+    private List<DecodingCheckpoint> findReusableCheckpoints(Individual individual) {
+        List<DecodingCheckpoint> best = Collections.emptyList();
+        int bestGenes = 0;
+
+        for (Individual parent: individual.getParents()) {
+            List<DecodingCheckpoint> parentCheckpoints = parent.getDecodingCheckpoints();
+            int commonGenes = commonPrefixLength(individual, parent);
+            int valid = 0;
+            while (valid < parentCheckpoints.size() && parentCheckpoints.get(valid).getDecodedGenes() <= commonGenes) {
+                valid++;
+            }
+            if (valid > 0 && parentCheckpoints.get(valid - 1).getDecodedGenes() > bestGenes) {
+                best = parentCheckpoints.subList(0, valid);
+                bestGenes = parentCheckpoints.get(valid - 1).getDecodedGenes();
+            }
         }
+        return best;
+    }
 
+    /**
+     * Counts the genes in which two individuals coincide from the beginning of their chromosomes.
+     * @param a First individual.
+     * @param b Second individual.
+     * @return The position of the first gene in which {@code a} and {@code b} differ.
+     */
+    private int commonPrefixLength(Individual a, Individual b) {
+        int length = Math.min(a.getChromosomeLength(), b.getChromosomeLength());
+        int i = 0;
+        while (i < length && a.getGene(i) == b.getGene(i)) {
+            i++;
+        }
+        return i;
     }
 
     /**
      * Tries to classify an exam.
+     *
+     * <p>
+     * Days and hours are handled as indexes of the calendar and seconds of the day, and only turned into dates when
+     * the exam is scheduled.
+     *
+     * <p>
+     * The repairing algorithm works over the same {@code daySeconds} at every depth. The changes done below the first
+     * level are recorded in {@code trail}, and rolled back when a swap candidate cannot be placed.
      * @param examsSchedule The {@code DataHandler} instance where the scheduling is.
      * @param dateTimeConfigurer The {@code DateTimeConfigurer} instance where the hour configurations, including the resting
      *                           interval bounds are.
-     * @param daysTimes A {@code HashMap} where the keys are the calendar days and the value the first hour of each day in which an
-     *                  exam can start.
+     * @param daySeconds An array indexed by day index with the first second of each calendar day in which an exam can
+     *                   start.
+     * @param trail The changes of {@code daySeconds} that may have to be undone.
      * @param exam The {@code Exam} to be scheduled.
      * @param depth The depth of the repairing tree.
      * @return True if the exam was classified. False otherwise.
      */
-    private boolean classifyExam(ExamsSchedule examsSchedule, DateTimeConfigurer dateTimeConfigurer, HashMap<LocalDate,
-            LocalTime> daysTimes, Exam exam, int depth) {
-
-        Set<LocalDate> viableDays;
-        List<LocalDate> viableDaysRandomized;
-        LocalTime currentHour;
-        viableDays = exam.getViableDays(daysTimes.keySet());
-        viableDaysRandomized = new ArrayList<>(viableDays);
+    private boolean classifyExam(ExamsSchedule examsSchedule, DateTimeConfigurer dateTimeConfigurer, int[] daySeconds,
+                                 DaysTimesTrail trail, Exam exam, int depth) {
+
+        List<LocalDate> calendar = dateTimeConfigurer.getCalendarDays();
+        BitSet viableDays;
+        List<Integer> viableDaysRandomized;
+        int currentSecond;
+        int chunkSeconds = exam.getChunkSeconds();
+        boolean collisionsEnabled = collidingConditions(examsSchedule, exam);
+        viableDays = exam.getViableDays(calendar);
+        viableDaysRandomized = new ArrayList<>(viableDays.cardinality());
+        for (int day = viableDays.nextSetBit(0); day >= 0; day = viableDays.nextSetBit(day + 1)) {
+            viableDaysRandomized.add(day);
+        }
         Collections.shuffle(viableDaysRandomized, new Random(exam.getId()));
         boolean scheduled = false;
 
-        for (LocalDate day :viableDaysRandomized){
-            currentHour = daysTimes.get(day);
+        for (int day :viableDaysRandomized){
+            currentSecond = daySeconds[day];
 
             Exam collidingExam = null;
-            while (dateTimeConfigurer.isHourInRestingInterval(currentHour) ||
-                    collidingConditions(examsSchedule, exam) &&
-                    (collidingExam = examsSchedule.checkCollisionOf(day, currentHour, exam.getChunkOfTime())) != null) {
+            while (dateTimeConfigurer.isSecondInRestingInterval(currentSecond) ||
+                    collisionsEnabled &&
+                    (collidingExam = examsSchedule.checkCollisionOf(day, currentSecond, chunkSeconds)) != null) {
 
 
-                if(collidingConditions(examsSchedule, exam) && collidingExam != null){
-                    daysTimes.put(day, collidingExam.getFinishingHour());
-                    currentHour = daysTimes.get(day);
+                if(collisionsEnabled && collidingExam != null){
+                    setDaySecond(daySeconds, trail, depth, day, collidingExam.getFinishingSecondOfDay());
+                    currentSecond = daySeconds[day];
                 }
 
-                if (dateTimeConfigurer.isHourInRestingInterval(currentHour)){
-                    daysTimes.put(day, dateTimeConfigurer.getFinishingHourRestingInterval());
+                if (dateTimeConfigurer.isSecondInRestingInterval(currentSecond)){
+                    setDaySecond(daySeconds, trail, depth, day, dateTimeConfigurer.getFinishingSecondRestingInterval());
                 }
 
-                currentHour = daysTimes.get(day);
+                currentSecond = daySeconds[day];
             }
 
 
-            if (dateTimeConfigurer.isValidEndingHourFor(day, currentHour.plus(exam.getChunkOfTime()))){
-                examsSchedule.schedule(exam, day, currentHour);
-                if (collidingConditions(examsSchedule, exam)) {
-                    daysTimes.put(day, exam.getFinishingHour());
+            int endingSecond = Math.floorMod(currentSecond + chunkSeconds, Exam.SECONDS_PER_DAY);
+            if (dateTimeConfigurer.isValidEndingSecondFor(day, endingSecond)){
+                examsSchedule.schedule(exam, calendar.get(day), currentSecond);
+                if (collisionsEnabled) {
+                    setDaySecond(daySeconds, trail, depth, day, exam.getFinishingSecondOfDay());
                 }
                 scheduled = true;
                 break;
@@ -149,22 +240,26 @@ public class ChromosomeDecoder {
 
             for (Exam examCandidate : candidates) {
                 LocalDate actualDate = examCandidate.getDate();
-                LocalTime actualHour = examCandidate.getInitialHour();
+                int actualSecond = examCandidate.getStartSecondOfDay();
 
                 // Lo asignamos por restricciones como exámenes el mismo día o en día.
-                examsSchedule.schedule(exam, actualDate , actualHour);
+                examsSchedule.schedule(exam, actualDate , actualSecond);
                 examsSchedule.unSchedule(examCandidate, actualDate);
 
-                HashMap<LocalDate, LocalTime> daysTimesCopy = cloneMap(daysTimes);
+                int mark = trail.size();
 
-                if (classifyExam(examsSchedule, dateTimeConfigurer, daysTimesCopy, examCandidate, depth + 1)) {
-                    writeNewDaysTimes(daysTimes, daysTimesCopy);
+                if (classifyExam(examsSchedule, dateTimeConfigurer, daySeconds, trail, examCandidate, depth + 1)) {
+                    if (depth == 0) {
+                        // Nothing above this level can undo the changes anymore.
+                        trail.forget(mark);
+                    }
                     scheduled = true;
                     break;
                 }
                 else {
+                    trail.undo(daySeconds, mark);
                     examsSchedule.unSchedule(exam, actualDate);
-                    examsSchedule.schedule(examCandidate, actualDate, actualHour);
+                    examsSchedule.schedule(examCandidate, actualDate, actualSecond);
                 }
 
             }
@@ -179,27 +274,83 @@ public class ChromosomeDecoder {
     }
 
     /**
-     * Overrides {@code daysTimes} data with the one in {@code daysTimesCopy}.
-     * @param daysTimes The {@code HashMap} containing the dates as keys and the first hour that can be used as value.
-     * @param daysTimesCopy A copy of {@code daysTimes} used by the repairing algorithm.
+     * Changes the first available second of a day, recording the change if it is done inside the repairing algorithm.
+     * @param daySeconds The array containing the first second that can be used on each calendar day.
+     * @param trail The changes of {@code daySeconds} that may have to be undone.
+     * @param depth The depth of the repairing tree.
+     * @param day The index of the day whose second changes.
+     * @param second The new first available second of {@code day}.
      */
-    private void writeNewDaysTimes(HashMap<LocalDate, LocalTime> daysTimes, HashMap<LocalDate, LocalTime> daysTimesCopy) {
-        for (Map.Entry<LocalDate, LocalTime> entry: daysTimesCopy.entrySet()) {
-            daysTimes.put(entry.getKey(), entry.getValue());
+    private void setDaySecond(int[] daySeconds, DaysTimesTrail trail, int depth, int day, int second) {
+        if (depth > 0) {
+            trail.record(day, daySeconds[day]);
         }
+        daySeconds[day] = second;
     }
 
     /**
-     * Creates a copy of the provided map.
-     * @param map The {@code HashMap} instance that we want to clone.
-     * @return A new {@code HashMap} instance with a copy of the values of {@code map}.
+     * This records the previous values of the changed entries of {@code daySeconds}, so that the changes done while
+     * trying a swap candidate can be rolled back without copying the whole array.
      */
-    private HashMap<LocalDate, LocalTime> cloneMap(HashMap<LocalDate, LocalTime> map) {
-        HashMap<LocalDate, LocalTime> result = new HashMap<>();
-        for (Map.Entry<LocalDate, LocalTime> entry: map.entrySet()) {
-            result.put(entry.getKey(), entry.getValue());
+    private static final class DaysTimesTrail {
+
+        /**
+         * Indexes of the days whose second was changed, in order.
+         */
+        private int[] days = new int[16];
+
+        /**
+         * Second of each day of {@code days} before the change.
+         */
+        private int[] previousSeconds = new int[16];
+
+        /**
+         * Number of recorded changes.
+         */
+        private int size;
+
+        /**
+         * Returns the number of recorded changes, to be used as mark.
+         * @return The number of recorded changes.
+         */
+        private int size() {
+            return size;
+        }
+
+        /**
+         * Records a change.
+         * @param day The index of the day whose second changed.
+         * @param previousSecond The second of {@code day} before the change.
+         */
+        private void record(int day, int previousSecond) {
+            if (size == days.length) {
+                days = Arrays.copyOf(days, size * 2);
+                previousSeconds = Arrays.copyOf(previousSeconds, size * 2);
+            }
+            days[size] = day;
+            previousSeconds[size] = previousSecond;
+            size++;
+        }
+
+        /**
+         * Restores the values of {@code daySeconds} as they were at the mark, newest change first.
+         * @param daySeconds The array whose changes are undone.
+         * @param mark The number of recorded changes to keep.
+         */
+        private void undo(int[] daySeconds, int mark) {
+            for (int i = size - 1; i >= mark; i--) {
+                daySeconds[days[i]] = previousSeconds[i];
+            }
+            forget(mark);
+        }
+
+        /**
+         * Discards the changes recorded after the mark, keeping their values.
+         * @param mark The number of recorded changes to keep.
+         */
+        private void forget(int mark) {
+            size = mark;
         }
-        return result;
     }
 
 
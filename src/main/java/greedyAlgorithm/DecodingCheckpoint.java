@@ -0,0 +1,96 @@
+package greedyAlgorithm;
+
+import domain.ExamsSchedule;
+import domain.entities.Exam;
+
+import domain.configuration.DateTimeConfigurer;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * This is a snapshot of the state of the {@link ChromosomeDecoder} after decoding the first genes of a chromosome.
+ *
+ * <p>
+ * The decoder is deterministic, so the state after a number of genes only depends on those genes. Any chromosome
+ * starting with the same genes can be decoded from this point on, instead of from the beginning.
+ *
+ * <p>
+ * Instances are immutable, so they can be shared between individuals and threads.
+ */
+public class DecodingCheckpoint {
+
+    /**
+     * Number of genes of the chromosome that were decoded when the snapshot was taken.
+     */
+    private final int decodedGenes;
+
+    /**
+     * Day indexes of the exams that were not initially scheduled, in the order of
+     * {@link ExamsSchedule#getPreUnscheduledExams()}. -1 for the exams that were not scheduled.
+     */
+    private final int[] days;
+
+    /**
+     * Initial seconds of the day of the exams that were not initially scheduled, in the same order as {@code days}.
+     */
+    private final int[] seconds;
+
+    /**
+     * Copy of the first available second of each day.
+     */
+    private final int[] daySeconds;
+
+    /**
+     * Takes a snapshot of the decoding state.
+     * @param decodedGenes Number of genes of the chromosome already decoded.
+     * @param unscheduledExams The exams that were not initially scheduled, as returned by
+     *                         {@link ExamsSchedule#getPreUnscheduledExams()}.
+     * @param dateTimeConfigurer The configurer that holds the calendar.
+     * @param daySeconds An array indexed by day index with the first second of each calendar day in which an exam can
+     *                   start.
+     */
+    public DecodingCheckpoint(int decodedGenes, List<Exam> unscheduledExams, DateTimeConfigurer dateTimeConfigurer,
+                              int[] daySeconds) {
+        this.decodedGenes = decodedGenes;
+        this.days = new int[unscheduledExams.size()];
+        this.seconds = new int[unscheduledExams.size()];
+        for (int i = 0; i < days.length; i++) {
+            Exam exam = unscheduledExams.get(i);
+            days[i] = exam.getDate() == null ? -1 : dateTimeConfigurer.getDayIndex(exam.getDate());
+            seconds[i] = exam.getStartSecondOfDay();
+        }
+        this.daySeconds = daySeconds.clone();
+    }
+
+    /**
+     * Returns the number of genes decoded when the snapshot was taken.
+     * @return The position of the chromosome from which the decoding must go on.
+     */
+    public int getDecodedGenes() {
+        return decodedGenes;
+    }
+
+    /**
+     * Schedules the exams as they were when the snapshot was taken.
+     *
+     * <p>
+     * The exams that were not initially scheduled must have been reset before.
+     * @param examsSchedule The {@code ExamsSchedule} instance over which the decoding goes on.
+     * @param unscheduledExams The exams that were not initially scheduled, as returned by
+     *                         {@link ExamsSchedule#getPreUnscheduledExams()}.
+     * @return A copy of the first available second of each day, that can be freely modified.
+     */
+    public int[] restore(ExamsSchedule examsSchedule, List<Exam> unscheduledExams) {
+        if (unscheduledExams.size() != days.length) {
+            throw new IllegalArgumentException("The checkpoint was taken over a different set of exams");
+        }
+        List<LocalDate> calendar = examsSchedule.getConfigurer().getDateTimeConfigurer().getCalendarDays();
+        for (int i = 0; i < days.length; i++) {
+            if (days[i] >= 0) {
+                examsSchedule.schedule(unscheduledExams.get(i), calendar.get(days[i]), seconds[i]);
+            }
+        }
+        return daySeconds.clone();
+    }
+}
@@ -2,6 +2,7 @@ package logger.dataGetter;
 
 import domain.ExamsSchedule;
 import domain.constraints.counter.ConstraintCounter;
+import domain.constraints.counter.ConstraintType;
 import domain.constraints.counter.DefaultConstraintCounter;
 import domain.constraints.types.softConstraints.userConstraints.UserConstraint;
 import geneticAlgorithm.Individual;
@@ -80,12 +81,11 @@ public class StatisticalDataGetter {
         int unplacedExams = constraintCounter.getCountOfUnscheduledExamsConstraint();
 
         int unfulfilledConstraintCounter = 0;
-        unfulfilledConstraintCounter += constraintCounter.getCountDayIntervalConstraint();
-        unfulfilledConstraintCounter += constraintCounter.getCountOfTimeDisplacementConstraint();
-        unfulfilledConstraintCounter += constraintCounter.getCountOfDifferentDayConstraint();
-        unfulfilledConstraintCounter += constraintCounter.getCountOrderExamsConstraint();
-        unfulfilledConstraintCounter += constraintCounter.getCountOfDaysBannedConstraint();
-        unfulfilledConstraintCounter += constraintCounter.getCountOfSameDayConstraint();
+        for (ConstraintType type: ConstraintType.values()) {
+            if (type.isUserConstraint()) {
+                unfulfilledConstraintCounter += (int) constraintCounter.getCount(type);
+            }
+        }
 
         long minutesOnProhibitedInterval = constraintCounter.getCountRestingIntervalPenalization();
 
@@ -1,6 +1,7 @@
 package logger.dataGetter.fitnessLogger;
 
 import geneticAlgorithm.Individual;
+import geneticAlgorithm.fitnessFunctions.FitnessCache;
 import geneticAlgorithm.fitnessFunctions.FitnessFunction;
 import utils.Utils;
 
@@ -21,6 +22,11 @@ public class GeneticLogger {
 
     private HashMap<Integer, List<FitnessGraphDto>> fitnessGraphDataMap;
 
+    /**
+     * Fitness cache used by the algorithm, whose hits and misses will be logged. Null if there is no cache.
+     */
+    private FitnessCache fitnessCache;
+
     /**
      * Default constructor for the class.
      */
@@ -54,11 +60,31 @@ public class GeneticLogger {
         data.append("\n");
         data.append(bestIndividual);
         data.append("\n");
+        if (fitnessCache != null) {
+            long hits = fitnessCache.getHits();
+            long misses = fitnessCache.getMisses();
+            data.append("Fitness cache: ");
+            data.append(hits);
+            data.append(" hits, ");
+            data.append(misses);
+            data.append(" misses (");
+            data.append(String.format("%.2f", hits + misses == 0 ? 0 : 100.0 * hits / (hits + misses)));
+            data.append("% hit rate)");
+            data.append("\n");
+        }
         data.append("-------------------------------------------");
         data.append("\n");
     }
 
 
+    /**
+     * Sets the fitness cache whose hits and misses will be added to each log entry.
+     * @param fitnessCache The fitness cache used by the algorithm.
+     */
+    public void setFitnessCache(FitnessCache fitnessCache) {
+        this.fitnessCache = fitnessCache;
+    }
+
     /**
      * Returns the logged String.
      * @return The logged String.
@@ -1,21 +1,17 @@
 package main;
 
+import domain.ExamInstance;
 import domain.ExamsSchedule;
 import domain.configuration.GeneticParameters;
-import domain.entities.Exam;
 import domain.parsers.ConstraintParser;
-import domain.parsers.ExamParser;
-import geneticAlgorithm.Enconder;
-import geneticAlgorithm.GeneticCore;
+import geneticAlgorithm.GeneticExecution;
 import geneticAlgorithm.Individual;
 import domain.configuration.Configurer;
-import geneticAlgorithm.fitnessFunctions.FitnessFunction;
-import geneticAlgorithm.fitnessFunctions.LinearFitnessFunction;
-import geneticAlgorithm.operators.GeneticOperators;
 import greedyAlgorithm.ChromosomeDecoder;
 import logger.dataGetter.StatisticalDataGetter;
 import logger.dataGetter.fitnessLogger.GeneticLogger;
 import utils.Utils;
+import utils.random.RandomGenerator;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
@@ -62,6 +58,9 @@ public class AppFinalVersion {
 
         String filesFile = "defaultConfiguration/filesFile";
         Configurer conf = new Configurer(filesFile);
+        if (conf.getGeneticParameters().getRandomSeed() != null) {
+            RandomGenerator.setSeed(conf.getGeneticParameters().getRandomSeed());
+        }
 
         //Set the right input file in the configurer!
         GeneticLogger logger = new GeneticLogger();
@@ -74,35 +73,22 @@ public class AppFinalVersion {
         String instanceFilename = getInstanceFilename(instanceToEvaluate);
         statisticalDataGetter = new StatisticalDataGetter(instanceFilename, "");
 
-        ExamParser examParser = new ExamParser();
-
-        Enconder basicEncoder = new Enconder();
+        ExamInstance examInstance = new ExamInstance(conf, new ConstraintParser(conf, statisticalDataGetter));
 
         int repetitions = conf.getGeneticParameters().getAlgorithmRepetitions();
 
 
         for (int j = 1; j <= repetitions; j++) {
             // Iteration start
-            ConstraintParser constraintParser = new ConstraintParser(conf, statisticalDataGetter);
-            List<Exam> exams = examParser.parseExams(conf.getFilePaths("inputFile"), conf);
-            ExamsSchedule examsSchedule = new ExamsSchedule(conf, exams, constraintParser);
-
-            Individual individualPrime = basicEncoder.encodeListExams(examsSchedule);
-            FitnessFunction fn = new LinearFitnessFunction(examsSchedule);
-
-            GeneticOperators geneticOperators = new GeneticOperators(conf.getGeneticParameters().getPopulationSize());
-            GeneticCore genCore = new GeneticCore(individualPrime, conf.getGeneticParameters().getPopulationSize(),
-                    geneticOperators, logger);
-
-
-            Individual finalOne = genCore.geneticAlgorithm(conf.getGeneticParameters().getMutationProbability(),
-                    conf.getGeneticParameters().getCrossoverProbability(), fn,
-                    conf.getGeneticParameters().getGenerations(), conf.getGeneticParameters().getLoggingFrequency());
-
+            ExamsSchedule examsSchedule = examInstance.createSchedule();
 
+            GeneticExecution execution = new GeneticExecution(examInstance, examsSchedule, conf.getGeneticParameters(),
+                    logger, new HashSet<>());
+            Individual finalOne = execution.run();
 
-            List<Individual> finalPopulation = genCore.getPopulation();
-            finalPopulation.sort(Comparator.comparingDouble(i -> i.getFitnessScore(fn)));
+            List<Individual> finalPopulation = execution.getPopulation();
+            finalPopulation.sort(Comparator.comparingDouble(
+                    i -> i.getFitnessScore(execution.getFitnessFunction())));
 
             HashSet<Individual> outputIndividuals = new HashSet<>();
             outputIndividuals.add(finalOne);
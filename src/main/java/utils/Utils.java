@@ -1,9 +1,9 @@
 package utils;
 
+import domain.parsers.excelReader.InputCell;
+import domain.parsers.excelReader.InputRow;
 import geneticAlgorithm.Individual;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
+import utils.random.RandomCromosomeGenerator;
 import utils.random.RandomGenerator;
 
 import java.io.File;
@@ -52,10 +52,9 @@ public class Utils {
         List<Individual> population = new ArrayList<>();
         population.add(individualPrime);
         Random gn = RandomGenerator.getGenerator();
-        List<Integer> chromosomePrime = individualPrime.getChromosome();
         for (int i = 0; i < popSize-1; i++) {
-            List<Integer> chromosomeClone = new ArrayList<>(chromosomePrime);
-            Collections.shuffle(chromosomeClone, gn);
+            int[] chromosomeClone = individualPrime.getChromosome();
+            RandomCromosomeGenerator.shuffle(chromosomeClone, gn);
             population.add(new Individual(chromosomeClone));
         }
         return population;
@@ -151,16 +150,16 @@ public class Utils {
 
 
 
-    public static void checkCellValueIsPresent(Row row, int i, String errorMessage) {
-        if (row.getCell(i) == null || row.getCell(i).getCellType().equals(CellType.BLANK)){
+    public static void checkCellValueIsPresent(InputRow row, int i, String errorMessage) {
+        if (row.getCell(i) == null || row.getCell(i).isBlank()){
             throw new IllegalArgumentException(errorMessage);
         }
     }
 
-    public static void checkCellValuesArePresent(Row row, int[] cells, String initialErrorMessage) {
+    public static void checkCellValuesArePresent(InputRow row, int[] cells, String initialErrorMessage) {
         List<Integer> notPresent = new ArrayList<>();
         for (Integer i: cells) {
-            if (row.getCell(i) == null || row.getCell(i).getCellType().equals(CellType.BLANK)){
+            if (row.getCell(i) == null || row.getCell(i).isBlank()){
                 notPresent.add(i);
             }
         }
@@ -192,7 +191,7 @@ public class Utils {
         return stringProperty;
     }
 
-    public static boolean emptyCell(Cell cell) {
-        return cell == null || cell.getCellType().equals(CellType.BLANK);
+    public static boolean emptyCell(InputCell cell) {
+        return cell == null || cell.isBlank();
     }
 }
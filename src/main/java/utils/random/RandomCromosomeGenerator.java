@@ -2,9 +2,6 @@ package utils.random;
 
 import geneticAlgorithm.Individual;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Random;
 
 /**
@@ -18,16 +15,34 @@ public class RandomCromosomeGenerator {
      * @param generator Random object to do the shuffling
      * @return a new randomized Chromosome.
      */
-    public static List<Integer> generateChromosome(int length, Random generator){
+    public static int[] generateChromosome(int length, Random generator){
 
 
-        List<Integer> list = new ArrayList<>();
+        int[] chromosome = new int[length];
         for (int i = 0; i < length; i++) {
-            list.add(i);
+            chromosome[i] = i;
         }
 
-        Collections.shuffle(list, generator);
-        return list;
+        shuffle(chromosome, generator);
+        return chromosome;
+    }
+
+    /**
+     * Randomly permutes a Chromosome in place.
+     *
+     * <p>
+     * It consumes the random numbers in the same way as {@code Collections.shuffle} does for lists, so the resulting
+     * permutations are the same ones.
+     * @param chromosome The Chromosome to be shuffled.
+     * @param generator Random object to do the shuffling
+     */
+    public static void shuffle(int[] chromosome, Random generator) {
+        for (int i = chromosome.length; i > 1; i--) {
+            int j = generator.nextInt(i);
+            int aux = chromosome[i-1];
+            chromosome[i-1] = chromosome[j];
+            chromosome[j] = aux;
+        }
     }
 
     /**
@@ -17,12 +17,23 @@ public class RandomGenerator {
      */
     private static Random generator;
 
+    /**
+     * {@code Random} objects bound to some threads, which will use them instead of {@code generator}.
+     */
+    private static final ThreadLocal<Random> threadGenerator = new ThreadLocal<>();
 
     /**
      * Provides always the same {@code Random} object.
+     *
+     * <p>
+     * If a {@code Random} object was bound to the current thread, that one is returned instead.
      * @return Always the same {@code Random} object.
      */
     public static Random getGenerator(){
+        Random bound = threadGenerator.get();
+        if (bound != null) {
+            return bound;
+        }
         if (generator == null){
             //generator = new Random(SEED);
             generator = new Random();
@@ -30,4 +41,36 @@ public class RandomGenerator {
         return generator;
     }
 
+    /**
+     * Replaces the {@code Random} object by a new one initialized with the given seed.
+     *
+     * <p>
+     * All the random decisions of the algorithm are taken in the main thread, so fixing the seed makes the whole
+     * execution reproducible, even when the fitness evaluation is done in parallel.
+     * @param seed The seed of the new {@code Random} object.
+     */
+    public static void setSeed(long seed) {
+        generator = new Random(seed);
+    }
+
+    /**
+     * Binds a {@code Random} object to the current thread, so that the calls to {@code getGenerator} from it
+     * return that object.
+     *
+     * <p>
+     * This allows several algorithms to run in different threads without sharing their random sequences, which keeps
+     * the executions reproducible.
+     * @param threadRandom The {@code Random} object to be used by the current thread.
+     */
+    public static void bindToCurrentThread(Random threadRandom) {
+        threadGenerator.set(threadRandom);
+    }
+
+    /**
+     * Removes the {@code Random} object bound to the current thread, if any.
+     */
+    public static void unbindFromCurrentThread() {
+        threadGenerator.remove();
+    }
+
 }